@@ -0,0 +1,29 @@
+package br.ucs.webalgo.legacystub;
+
+// Comportamento de um endpoint do legado; campos nulos herdam do perfil padrao (ver withDefaults)
+public record EndpointProfile(
+        Long latencyP50Ms,
+        Long latencyP99Ms,
+        Long latencyMaxMs,
+        Double errorRate,
+        Integer errorStatus,
+        Double resetRate,
+        Double slowBodyRate,
+        Integer chunkBytes,
+        Long chunkDelayMs) {
+
+    public static final EndpointProfile NONE = new EndpointProfile(0L, 0L, 0L, 0.0, 503, 0.0, 0.0, 256, 50L);
+
+    public EndpointProfile withDefaults(EndpointProfile base) {
+        return new EndpointProfile(
+                latencyP50Ms != null ? latencyP50Ms : base.latencyP50Ms,
+                latencyP99Ms != null ? latencyP99Ms : base.latencyP99Ms,
+                latencyMaxMs != null ? latencyMaxMs : base.latencyMaxMs,
+                errorRate != null ? errorRate : base.errorRate,
+                errorStatus != null ? errorStatus : base.errorStatus,
+                resetRate != null ? resetRate : base.resetRate,
+                slowBodyRate != null ? slowBodyRate : base.slowBodyRate,
+                chunkBytes != null ? chunkBytes : base.chunkBytes,
+                chunkDelayMs != null ? chunkDelayMs : base.chunkDelayMs);
+    }
+}
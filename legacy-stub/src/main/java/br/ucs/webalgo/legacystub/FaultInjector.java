@@ -0,0 +1,87 @@
+package br.ucs.webalgo.legacystub;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Sorteia, por requisicao, a latencia e o desfecho (ok, erro, reset, corpo lento) conforme o perfil do endpoint.
+// Com "seed" fixo a sequencia de sorteios e a mesma a cada execucao (mesma ordem de chegada => mesmas falhas)
+public class FaultInjector {
+
+    // z da normal padrao no percentil 99, usado para derivar o sigma da lognormal a partir de p50/p99
+    private static final double Z_99 = 2.3263;
+
+    public enum Outcome { OK, ERROR, RESET, SLOW_BODY }
+
+    public record Decision(Outcome outcome, Duration latency, EndpointProfile profile) {
+    }
+
+    private final EndpointProfile defaults;
+    private final Map<String, EndpointProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final SplittableRandom random;
+
+    public FaultInjector(StubConfig config) {
+        this.defaults = config.defaults();
+        this.random = config.seed() != null ? new SplittableRandom(config.seed()) : new SplittableRandom();
+        config.endpoints().forEach(this::update);
+    }
+
+    public void update(String endpoint, EndpointProfile profile) {
+        profiles.put(endpoint, profile.withDefaults(defaults));
+    }
+
+    public EndpointProfile profileOf(String endpoint) {
+        return profiles.getOrDefault(endpoint, defaults);
+    }
+
+    public Map<String, EndpointProfile> profiles() {
+        return new TreeMap<>(profiles);
+    }
+
+    public Decision decide(String endpoint) {
+        EndpointProfile profile = profileOf(endpoint);
+        double roll;
+        double gaussian;
+        synchronized (random) {
+            roll = random.nextDouble();
+            gaussian = random.nextGaussian();
+        }
+
+        Outcome outcome;
+        if (roll < profile.resetRate()) {
+            outcome = Outcome.RESET;
+        } else if (roll < profile.resetRate() + profile.errorRate()) {
+            outcome = Outcome.ERROR;
+        } else if (roll < profile.resetRate() + profile.errorRate() + profile.slowBodyRate()) {
+            outcome = Outcome.SLOW_BODY;
+        } else {
+            outcome = Outcome.OK;
+        }
+
+        counters.computeIfAbsent(endpoint + " " + outcome, k -> new LongAdder()).increment();
+        return new Decision(outcome, latency(profile, gaussian), profile);
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> out = new TreeMap<>();
+        counters.forEach((k, v) -> out.put(k, v.sum()));
+        return out;
+    }
+
+    private Duration latency(EndpointProfile profile, double gaussian) {
+        long p50 = profile.latencyP50Ms();
+        long p99 = profile.latencyP99Ms();
+        if (p50 <= 0) return Duration.ZERO;
+        if (p99 <= p50) return Duration.ofMillis(p50);
+
+        // Lognormal com mediana p50 e cauda ajustada para que 1% das amostras passe de p99
+        double sigma = Math.log((double) p99 / p50) / Z_99;
+        long millis = Math.round(p50 * Math.exp(sigma * gaussian));
+        long max = profile.latencyMaxMs();
+        return Duration.ofMillis(max > 0 ? Math.min(millis, max) : millis);
+    }
+}
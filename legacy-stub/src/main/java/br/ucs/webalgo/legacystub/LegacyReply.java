@@ -0,0 +1,8 @@
+package br.ucs.webalgo.legacystub;
+
+public record LegacyReply(int status, String setCookie, byte[] body) {
+
+    public static LegacyReply ok(byte[] body) {
+        return new LegacyReply(200, null, body);
+    }
+}
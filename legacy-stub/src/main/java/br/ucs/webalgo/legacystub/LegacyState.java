@@ -0,0 +1,197 @@
+package br.ucs.webalgo.legacystub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Estado em memoria do legado simulado: usuarios, sessoes, catalogo gerado e solucoes por usuario/problema.
+// As respostas seguem o formato lido pelos Legacy*Response do middleware
+public class LegacyState {
+
+    private static final String SESSION_COOKIE = "sessionid";
+
+    private final StubConfig config;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SecureRandom sessionIds = new SecureRandom();
+    private final Map<String, String> users;
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, List<Solution>> solutions = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> catalogs = new ConcurrentHashMap<>();
+    private final AtomicInteger solutionIds = new AtomicInteger();
+
+    private record Solution(int id, String algo, int cost, String answer) {
+    }
+
+    public LegacyState(StubConfig config) {
+        this.config = config;
+        this.users = new ConcurrentHashMap<>(config.users());
+    }
+
+    public boolean hasSession(Map<String, String> cookies) {
+        String sessionId = cookies.get(SESSION_COOKIE);
+        return sessionId != null && sessions.containsKey(sessionId);
+    }
+
+    public LegacyReply login(Map<String, String> form, Map<String, String> cookies) {
+        String username = form.getOrDefault("username", "");
+        String password = form.get("password");
+        String expected = users.get(username);
+
+        boolean valid = expected != null ? expected.equals(password) : config.acceptAnyUser() && !username.isBlank();
+        if (!valid) {
+            return LegacyReply.ok(json(Map.of("respostas", "Usuário ou senha inválidos")));
+        }
+
+        byte[] raw = new byte[16];
+        sessionIds.nextBytes(raw);
+        String sessionId = HexFormat.of().formatHex(raw);
+        sessions.put(sessionId, username);
+
+        return new LegacyReply(200, SESSION_COOKIE + "=" + sessionId + "; HttpOnly; Path=/",
+                json(Map.of("respostas", username)));
+    }
+
+    public LegacyReply logout(Map<String, String> form, Map<String, String> cookies) {
+        String sessionId = cookies.get(SESSION_COOKIE);
+        if (sessionId != null) sessions.remove(sessionId);
+        return LegacyReply.ok(json(Map.of("respostas", "Logout realizado com sucesso")));
+    }
+
+    public LegacyReply register(Map<String, String> form, Map<String, String> cookies) {
+        String login = form.getOrDefault("login", "");
+        if (login.isBlank() || users.putIfAbsent(login, form.getOrDefault("senha", "")) != null) {
+            return LegacyReply.ok(json(Map.of("respostas", "Erro: login já existe, cadastro não realizado com sucesso")));
+        }
+        return LegacyReply.ok(json(Map.of("respostas", "Usuário cadastrado com sucesso")));
+    }
+
+    public LegacyReply changePassword(Map<String, String> form, Map<String, String> cookies) {
+        String login = form.getOrDefault("login", "");
+        String current = users.get(login);
+        boolean known = current != null ? current.equals(form.get("senha3")) : config.acceptAnyUser();
+        if (!known || !form.getOrDefault("senha1", "").equals(form.get("senha2"))) {
+            return LegacyReply.ok(json(Map.of("respostas", "Erro: senha atual inválida")));
+        }
+
+        users.put(login, form.get("senha1"));
+        return LegacyReply.ok(json(Map.of("respostas", "Senha alterada com sucesso")));
+    }
+
+    public LegacyReply searchByKey(Map<String, String> form, Map<String, String> cookies) {
+        String key = form.getOrDefault("pTipo", "");
+        return LegacyReply.ok(catalogs.computeIfAbsent(key, this::catalog));
+    }
+
+    public LegacyReply problemData(Map<String, String> form, Map<String, String> cookies) {
+        String code = form.getOrDefault("codigoProblema", "");
+        int seed = Math.floorMod(code.hashCode(), 1000);
+
+        List<String> sols = solutionsOf(cookies, code).stream().map(s -> String.valueOf(s.id())).toList();
+
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("sai", "um inteiro");
+        inner.put("custo", seed % 20 + 1);
+        inner.put("melhor", List.of("ana", "bruno", "carla"));
+        inner.put("ent", "n seguido de n inteiros");
+        inner.put("sols", sols);
+        inner.put("desc", ("Problema " + code + ": dado um vetor de inteiros, calcule a soma dos elementos. ")
+                .repeat(config.descriptionRepeat()));
+
+        return LegacyReply.ok(json(Map.of("respostas", inner)));
+    }
+
+    public LegacyReply solutionData(Map<String, String> form, Map<String, String> cookies) {
+        // O middleware envia "<id>_<codigoProblema>", o mesmo formato que devolve ao frontend
+        String code = form.getOrDefault("codigoPS", "");
+        int sep = code.indexOf('_');
+        String problemCode = sep < 0 ? "" : code.substring(sep + 1);
+        String id = sep < 0 ? code : code.substring(0, sep);
+
+        Solution solution = solutionsOf(cookies, problemCode).stream()
+                .filter(s -> String.valueOf(s.id()).equals(id))
+                .findFirst()
+                .orElse(null);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (solution == null) {
+            body.put("resposta", null);
+        } else {
+            Map<String, Object> inner = new LinkedHashMap<>();
+            inner.put("custo", solution.cost());
+            inner.put("algo", solution.algo());
+            inner.put("io", List.of(Map.of("ent", "3 1 2 3", "sai", "6"), Map.of("ent", "1 7", "sai", "7")));
+            body.put("resposta", inner);
+        }
+        return LegacyReply.ok(json(body));
+    }
+
+    public LegacyReply createSolution(Map<String, String> form, Map<String, String> cookies) {
+        String problemCode = form.getOrDefault("dadosProb", "");
+        Solution solution = new Solution(solutionIds.incrementAndGet(), "", 0, "");
+        List<Solution> list = solutions.computeIfAbsent(ownerKey(cookies, problemCode), k -> new ArrayList<>());
+        synchronized (list) {
+            list.add(solution);
+        }
+        return LegacyReply.ok(json(Map.of("resposta", String.valueOf(solution.id()))));
+    }
+
+    public LegacyReply saveSolution(Map<String, String> form, Map<String, String> cookies) {
+        String problemCode = form.getOrDefault("dadosProb", "");
+        int cost = parseInt(form.get("custo"));
+
+        // O legado grava sobre a ultima solucao do usuario para o problema (cria uma se ainda nao houver)
+        List<Solution> list = solutions.computeIfAbsent(ownerKey(cookies, problemCode), k -> new ArrayList<>());
+        synchronized (list) {
+            int id = list.isEmpty() ? solutionIds.incrementAndGet() : list.removeLast().id();
+            list.add(new Solution(id, form.getOrDefault("algo", ""), cost, form.getOrDefault("resposta", "")));
+        }
+        return LegacyReply.ok(json(Map.of("resposta", "Solução salva com sucesso")));
+    }
+
+    private List<Solution> solutionsOf(Map<String, String> cookies, String problemCode) {
+        List<Solution> list = solutions.get(ownerKey(cookies, problemCode));
+        if (list == null) return List.of();
+        synchronized (list) {
+            return List.copyOf(list);
+        }
+    }
+
+    private String ownerKey(Map<String, String> cookies, String problemCode) {
+        String username = sessions.getOrDefault(cookies.getOrDefault(SESSION_COOKIE, ""), cookies.getOrDefault("name", ""));
+        return username + "|" + problemCode;
+    }
+
+    private byte[] catalog(String key) {
+        if (!config.keys().contains(key)) return json(Map.of("probs", List.of()));
+
+        List<List<Object>> rows = new ArrayList<>(config.catalogRows());
+        for (int i = 1; i <= config.catalogRows(); i++) {
+            rows.add(List.of(key + String.format("%08d", i), "Problema " + i + " - soma de vetores", "Fácil", i % 7));
+        }
+        return json(Map.of("probs", rows));
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.ucs.webalgo.legacystub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.netty.DisposableServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// java -jar legacy-stub.jar [config.json]; a porta pode ser sobrescrita pela variavel PORT
+public final class LegacyStubApplication {
+
+    private LegacyStubApplication() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String configPath = args.length > 0 ? args[0] : System.getenv("LEGACY_STUB_CONFIG");
+
+        StubConfig config = configPath == null
+                ? StubConfig.defaultConfig()
+                : new ObjectMapper().readValue(Files.readAllBytes(Path.of(configPath)), StubConfig.class);
+
+        String port = System.getenv("PORT");
+        if (port != null && !port.isBlank()) {
+            config = config.withPort(Integer.parseInt(port.trim()));
+        }
+
+        DisposableServer server = new LegacyStubServer(config).start();
+        server.onDispose().block();
+    }
+}
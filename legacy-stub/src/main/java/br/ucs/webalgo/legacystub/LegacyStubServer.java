@@ -0,0 +1,187 @@
+package br.ucs.webalgo.legacystub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+// Servidor Reactor Netty que imita os endpoints do web-algo legado usados pelo middleware.
+// Pode ser iniciado no proprio processo (testes, benchmarks) ou pelo LegacyStubApplication
+public class LegacyStubServer {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyStubServer.class);
+
+    // Endpoints que exigem o cookie sessionid emitido pelo /logUsuario
+    private static final Set<String> AUTHENTICATED = Set.of(
+            "/buscaProblemasChave", "/dadosProblema", "/dadosSolucao", "/cadSolucao", "/alteraAlgo");
+
+    private final StubConfig config;
+    private final LegacyState state;
+    private final FaultInjector faults;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public LegacyStubServer(StubConfig config) {
+        this.config = config;
+        this.state = new LegacyState(config);
+        this.faults = new FaultInjector(config);
+    }
+
+    public FaultInjector faults() {
+        return faults;
+    }
+
+    public DisposableServer start() {
+        DisposableServer server = HttpServer.create()
+                .port(config.port())
+                .route(this::routes)
+                .bindNow();
+        log.info("Legado simulado ouvindo na porta {}", server.port());
+        return server;
+    }
+
+    private void routes(HttpServerRoutes routes) {
+        routes.post("/logUsuario", endpoint("/logUsuario", state::login))
+                .post("/logoutPortal", endpoint("/logoutPortal", state::logout))
+                .post("/cadUserp", endpoint("/cadUserp", state::register))
+                .post("/alteraSenhap", endpoint("/alteraSenhap", state::changePassword))
+                .post("/buscaProblemasChave", endpoint("/buscaProblemasChave", state::searchByKey))
+                .post("/dadosProblema", endpoint("/dadosProblema", state::problemData))
+                .post("/dadosSolucao", endpoint("/dadosSolucao", state::solutionData))
+                .post("/cadSolucao", endpoint("/cadSolucao", state::createSolution))
+                .post("/alteraAlgo", endpoint("/alteraAlgo", state::saveSolution))
+                // Administracao do stub: contadores por desfecho e troca de perfil em tempo de execucao
+                .get("/__stub/stats", (req, res) -> sendJson(res, faults.stats()))
+                .get("/__stub/endpoints", (req, res) -> sendJson(res, faults.profiles()))
+                .put("/__stub/endpoints/{name}", this::updateProfile)
+                // Raiz responde 200 para o aquecimento de conexoes do middleware (HEAD /)
+                .route(req -> "/".equals(req.uri()), (req, res) -> res.status(HttpResponseStatus.OK).send());
+    }
+
+    private BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> endpoint(String path, LegacyAction action) {
+        return (req, res) -> {
+            FaultInjector.Decision decision = faults.decide(path);
+            Map<String, String> cookies = cookies(req);
+
+            return req.receive().aggregate().asString(StandardCharsets.UTF_8)
+                    .defaultIfEmpty("")
+                    .delayElement(decision.latency())
+                    .flatMap(body -> switch (decision.outcome()) {
+                        case RESET -> reset(res);
+                        case ERROR -> send(res, new LegacyReply(decision.profile().errorStatus(), null,
+                                "{\"respostas\":\"Erro interno\"}".getBytes(StandardCharsets.UTF_8)), null);
+                        case OK, SLOW_BODY -> {
+                            if (AUTHENTICATED.contains(path) && !state.hasSession(cookies)) {
+                                yield send(res, new LegacyReply(403, null,
+                                        "{\"respostas\":\"Sessão inválida\"}".getBytes(StandardCharsets.UTF_8)), null);
+                            }
+                            LegacyReply reply = action.apply(form(body), cookies);
+                            yield send(res, reply, decision.outcome() == FaultInjector.Outcome.SLOW_BODY ? decision.profile() : null);
+                        }
+                    });
+        };
+    }
+
+    private Mono<Void> send(HttpServerResponse res, LegacyReply reply, EndpointProfile slow) {
+        res.status(reply.status()).header(HttpHeaderNames.CONTENT_TYPE, "application/json");
+        if (reply.setCookie() != null) {
+            res.header(HttpHeaderNames.SET_COOKIE, reply.setCookie());
+        }
+
+        if (slow == null) {
+            return res.header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(reply.body().length))
+                    .sendByteArray(Mono.just(reply.body()))
+                    .then();
+        }
+
+        // Corpo em chunks com pausa entre eles: o cabecalho chega rapido e o corpo demora
+        return res.sendByteArray(Flux.fromIterable(chunks(reply.body(), slow.chunkBytes()))
+                        .delayElements(Duration.ofMillis(slow.chunkDelayMs())))
+                .then();
+    }
+
+    // SO_LINGER 0 faz o close enviar RST em vez de FIN, como uma queda abrupta do legado
+    private Mono<Void> reset(HttpServerResponse res) {
+        res.withConnection(conn -> {
+            conn.channel().config().setOption(ChannelOption.SO_LINGER, 0);
+            conn.channel().close();
+        });
+        return Mono.never();
+    }
+
+    private Publisher<Void> updateProfile(HttpServerRequest req, HttpServerResponse res) {
+        String endpoint = "/" + req.param("name");
+        return req.receive().aggregate().asByteArray()
+                .flatMap(bytes -> {
+                    try {
+                        faults.update(endpoint, mapper.readValue(bytes, EndpointProfile.class));
+                        log.info("Perfil de {} alterado para {}", endpoint, faults.profileOf(endpoint));
+                        return sendJson(res, faults.profileOf(endpoint));
+                    } catch (IOException e) {
+                        return res.status(HttpResponseStatus.BAD_REQUEST).sendString(Mono.just(e.getMessage())).then();
+                    }
+                });
+    }
+
+    private Mono<Void> sendJson(HttpServerResponse res, Object value) {
+        try {
+            byte[] body = mapper.writeValueAsBytes(value);
+            return res.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                    .sendByteArray(Mono.just(body))
+                    .then();
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+    }
+
+    private static Map<String, String> cookies(HttpServerRequest req) {
+        Map<String, String> out = new HashMap<>();
+        req.allCookies().forEach((name, values) -> {
+            if (!values.isEmpty()) out.put(name.toString(), values.getFirst().value());
+        });
+        return out;
+    }
+
+    private static Map<String, String> form(String body) {
+        Map<String, String> out = new LinkedHashMap<>();
+        new QueryStringDecoder(body, StandardCharsets.UTF_8, false).parameters()
+                .forEach((k, v) -> out.put(k, v.isEmpty() ? "" : v.getFirst()));
+        return out;
+    }
+
+    private static List<byte[]> chunks(byte[] body, int size) {
+        int step = Math.max(1, size);
+        List<byte[]> out = new ArrayList<>();
+        for (int i = 0; i < body.length; i += step) {
+            out.add(Arrays.copyOfRange(body, i, Math.min(body.length, i + step)));
+        }
+        return out;
+    }
+
+    @FunctionalInterface
+    interface LegacyAction {
+        LegacyReply apply(Map<String, String> form, Map<String, String> cookies);
+    }
+}
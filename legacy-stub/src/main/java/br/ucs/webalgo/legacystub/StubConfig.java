@@ -0,0 +1,35 @@
+package br.ucs.webalgo.legacystub;
+
+import java.util.List;
+import java.util.Map;
+
+public record StubConfig(
+        Integer port,
+        Long seed,
+        Boolean acceptAnyUser,
+        Map<String, String> users,
+        List<String> keys,
+        Integer catalogRows,
+        Integer descriptionRepeat,
+        EndpointProfile defaults,
+        Map<String, EndpointProfile> endpoints) {
+
+    public StubConfig {
+        if (port == null) port = 9000;
+        if (acceptAnyUser == null) acceptAnyUser = true;
+        if (users == null) users = Map.of("aluno", "aluno");
+        if (keys == null) keys = List.of("S", "C", "I", "V", "M", "F", "R", "G");
+        if (catalogRows == null) catalogRows = 200;
+        if (descriptionRepeat == null) descriptionRepeat = 20;
+        defaults = defaults == null ? EndpointProfile.NONE : defaults.withDefaults(EndpointProfile.NONE);
+        if (endpoints == null) endpoints = Map.of();
+    }
+
+    public static StubConfig defaultConfig() {
+        return new StubConfig(null, null, null, null, null, null, null, null, null);
+    }
+
+    public StubConfig withPort(int port) {
+        return new StubConfig(port, seed, acceptAnyUser, users, keys, catalogRows, descriptionRepeat, defaults, endpoints);
+    }
+}
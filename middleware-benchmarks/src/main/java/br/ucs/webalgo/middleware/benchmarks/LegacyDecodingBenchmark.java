@@ -0,0 +1,149 @@
+package br.ucs.webalgo.middleware.benchmarks;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacyProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacySearchByKeyResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySaveSolutionResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySolutionDataResponse;
+import br.ucs.webalgo.middleware.infrastructure.config.LegacyPayloadProperties;
+import br.ucs.webalgo.middleware.infrastructure.metrics.LegacyClientMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// "codec"/"tree" reproduzem a decodificacao anterior (bodyToMono via Jackson2JsonDecoder); "payloads" e o caminho atual
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LegacyDecodingBenchmark {
+
+    public record LegacyProbsRows(List<List<String>> probs) {
+    }
+
+    // So os benchmarks de catalogo variam o numero de linhas
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param({"50", "500"})
+        public int rows;
+
+        byte[] bytes;
+
+        @Setup
+        public void setUp() {
+            bytes = LegacyFixtures.searchByKey(rows);
+        }
+    }
+
+    private final DefaultDataBufferFactory buffers = DefaultDataBufferFactory.sharedInstance;
+    private Jackson2JsonDecoder codec;
+    private byte[] problemData;
+    private byte[] solutionData;
+    private byte[] saveSolution;
+    private Function<Flux<DataBuffer>, Mono<LegacySearchByKeyResponse>> searchByKeyDecoder;
+    private Function<Flux<DataBuffer>, Mono<LegacyProblemDataResponse>> problemDataDecoder;
+    private Function<Flux<DataBuffer>, Mono<LegacySolutionDataResponse>> solutionDataDecoder;
+    private Function<Flux<DataBuffer>, Mono<LegacySaveSolutionResponse>> saveSolutionDecoder;
+    private LegacyPayloads payloads;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = new Jackson2JsonDecoder(objectMapper);
+        payloads = new LegacyPayloads(objectMapper, new LegacyPayloadProperties(DataSize.ofMegabytes(4), Map.of()),
+                new LegacyClientMetrics(new SimpleMeterRegistry(), "http://localhost"));
+        problemData = LegacyFixtures.problemData();
+        solutionData = LegacyFixtures.solutionData();
+        saveSolution = LegacyFixtures.saveSolution();
+        searchByKeyDecoder = payloads.decoder("/buscaProblemasChave", payloads.searchByKey());
+        problemDataDecoder = payloads.decoder("/dadosProblema", payloads.problemData());
+        solutionDataDecoder = payloads.decoder("/dadosSolucao", payloads.solutionData());
+        saveSolutionDecoder = payloads.decoder("/alteraAlgo", payloads.saveSolution());
+    }
+
+    private Flux<DataBuffer> body(byte[] bytes) {
+        return Flux.just(buffers.wrap(bytes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T decode(byte[] bytes, Class<T> type) {
+        return (T) codec.decodeToMono(body(bytes), ResolvableType.forClass(type), null, Map.of()).block();
+    }
+
+    @Benchmark
+    public List<String> searchByKeyCodec(Catalog catalog) {
+        LegacyProbsRows rows = decode(catalog.bytes, LegacyProbsRows.class);
+        return rows.probs().stream().flatMap(list -> list.stream().findFirst().stream()).toList();
+    }
+
+    @Benchmark
+    public LegacySearchByKeyResponse searchByKeyPayloads(Catalog catalog) {
+        return searchByKeyDecoder.apply(body(catalog.bytes)).block();
+    }
+
+    @Benchmark
+    public LegacyProblemDataResponse problemDataCodec() {
+        return decode(problemData, LegacyProblemDataResponse.class);
+    }
+
+    @Benchmark
+    public LegacyProblemDataResponse problemDataPayloads() {
+        return problemDataDecoder.apply(body(problemData)).block();
+    }
+
+    @Benchmark
+    public LegacySolutionDataResponse solutionDataCodec() {
+        return decode(solutionData, LegacySolutionDataResponse.class);
+    }
+
+    @Benchmark
+    public LegacySolutionDataResponse solutionDataPayloads() {
+        return solutionDataDecoder.apply(body(solutionData)).block();
+    }
+
+    @Benchmark
+    public LegacySaveSolutionResponse saveSolutionCodec() {
+        return decode(saveSolution, LegacySaveSolutionResponse.class);
+    }
+
+    @Benchmark
+    public LegacySaveSolutionResponse saveSolutionPayloads() {
+        return saveSolutionDecoder.apply(body(saveSolution)).block();
+    }
+
+    @Benchmark
+    public String loginMessageTree() throws IOException {
+        return new ObjectMapper().readTree(LegacyFixtures.LOGIN_BODY).path("respostas").asText(null);
+    }
+
+    @Benchmark
+    public String loginMessagePayloads() {
+        return payloads.text(LegacyFixtures.LOGIN_BODY, "respostas");
+    }
+}
@@ -0,0 +1,54 @@
+package br.ucs.webalgo.middleware.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+// Respostas do legado com tamanho proximo do real (catalogo com centenas de linhas, enunciado de alguns KB)
+final class LegacyFixtures {
+
+    static final String SET_COOKIE =
+            "csrftoken=Zx81kQ; expires=Sat, 17 Oct 2027 10:00:00 GMT; Path=/, sessionid=q7w2e9r4t1y8u3i6o0p5a2s7d4f9g1h3; HttpOnly; Path=/";
+
+    static final String LOGIN_BODY = "{\"respostas\":\"alice\"}";
+    static final String SIGN_UP_OK = "Usuário cadastrado com sucesso";
+    static final String SIGN_UP_ERROR = "Erro: login já existe, cadastro não realizado com sucesso";
+
+    private LegacyFixtures() {
+    }
+
+    static byte[] searchByKey(int rows) {
+        StringBuilder sb = new StringBuilder("{\"probs\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("[\"S").append(String.format("%08d", i)).append("\",\"Problema ").append(i)
+                    .append(" - soma de vetores\",\"Fácil\",").append(i % 7).append(']');
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] problemData() {
+        StringBuilder sols = new StringBuilder();
+        for (int i = 1; i <= 20; i++) {
+            if (i > 1) sols.append(',');
+            sols.append('"').append(i).append('"');
+        }
+        String desc = "Dado um vetor de inteiros, calcule a soma dos elementos. ".repeat(40);
+        return ("{\"respostas\":{\"sai\":\"um inteiro\",\"custo\":12,\"melhor\":[\"ana\",\"bruno\",\"carla\"],"
+                + "\"ent\":\"n seguido de n inteiros\",\"sols\":[" + sols + "],\"desc\":\"" + desc + "\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] solutionData() {
+        StringBuilder io = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) io.append(',');
+            io.append("{\"ent\":\"").append(i).append(' ').append(i * 2).append("\",\"sai\":\"").append(i * 3).append("\"}");
+        }
+        String algo = "leia(n)\\npara i de 1 ate n faca\\n  leia(x)\\n  s <- s + x\\nfim\\nescreva(s)\\n".repeat(12);
+        return ("{\"resposta\":{\"custo\":7,\"algo\":\"" + algo + "\",\"io\":[" + io + "]}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] saveSolution() {
+        return "{\"resposta\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+    }
+}
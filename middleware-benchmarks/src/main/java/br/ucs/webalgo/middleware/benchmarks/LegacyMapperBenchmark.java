@@ -0,0 +1,78 @@
+package br.ucs.webalgo.middleware.benchmarks;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacyProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacySearchByKeyResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.mapper.LegacyProblemMapper;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySaveSolutionResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySolutionDataResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.mapper.LegacySolutionMapper;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionResult;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LegacyMapperBenchmark {
+
+    private final LegacyProblemMapper problemMapper = new LegacyProblemMapper();
+    private final LegacySolutionMapper solutionMapper = new LegacySolutionMapper();
+    private LegacySearchByKeyResponse searchByKey;
+    private LegacyProblemDataResponse problemData;
+    private LegacySolutionDataResponse solutionData;
+    private LegacySaveSolutionResponse saveSolution;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            codes.add(String.format("S%08d", i));
+        }
+        searchByKey = new LegacySearchByKeyResponse(codes);
+        problemData = objectMapper.readValue(LegacyFixtures.problemData(), LegacyProblemDataResponse.class);
+        solutionData = objectMapper.readValue(LegacyFixtures.solutionData(), LegacySolutionDataResponse.class);
+        saveSolution = objectMapper.readValue(LegacyFixtures.saveSolution(), LegacySaveSolutionResponse.class);
+    }
+
+    @Benchmark
+    public SearchByKeyResult searchByKey() {
+        return problemMapper.toResult(searchByKey);
+    }
+
+    @Benchmark
+    public FetchByCodeResult problemData() {
+        return problemMapper.toResult(problemData, "S00000050");
+    }
+
+    @Benchmark
+    public FetchSolutionResult solutionData() {
+        return solutionMapper.toResult(solutionData);
+    }
+
+    @Benchmark
+    public SaveSolutionResult saveSolution() {
+        return solutionMapper.toResult(saveSolution);
+    }
+}
@@ -0,0 +1,110 @@
+package br.ucs.webalgo.middleware.benchmarks;
+
+import br.ucs.webalgo.middleware.adapter.in.web.problem.ProblemController;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.SearchByKeyResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.ProblemDataMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.SearchByKeyMapper;
+import br.ucs.webalgo.middleware.adapter.out.cache.session.LocalSessionIndex;
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacyProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.mapper.LegacyProblemMapper;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import br.ucs.webalgo.middleware.application.port.out.problem.ProblemPort;
+import br.ucs.webalgo.middleware.application.port.service.auth.SessionGuard;
+import br.ucs.webalgo.middleware.application.port.service.problem.ProblemService;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedInEvent;
+import br.ucs.webalgo.middleware.infrastructure.config.SessionIndexProperties;
+import br.ucs.webalgo.middleware.infrastructure.tracing.ServiceObservations;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Controller -> service (com SessionGuard) -> port em memoria: o custo do middleware sem rede
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemEndToEndBenchmark {
+
+    private static final String SESSION_ID = "q7w2e9r4t1y8u3i6o0p5a2s7d4f9g1h3";
+    private static final String USERNAME = "alice";
+
+    static final class InMemoryProblemPort implements ProblemPort {
+        private final SearchByKeyResult catalog;
+        private final FetchByCodeResult details;
+
+        InMemoryProblemPort(SearchByKeyResult catalog, FetchByCodeResult details) {
+            this.catalog = catalog;
+            this.details = details;
+        }
+
+        @Override
+        public Mono<SearchByKeyResult> searchProblemByKey(SearchByKeyCommand command) {
+            return Mono.just(catalog);
+        }
+
+        @Override
+        public Mono<FetchByCodeResult> fetchProblemData(FetchByCodeCommand command) {
+            return Mono.just(details);
+        }
+    }
+
+    private ProblemController controller;
+
+    @Setup
+    public void setUp() throws IOException {
+        LegacyProblemMapper legacyMapper = new LegacyProblemMapper();
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            codes.add(String.format("S%08d", i));
+        }
+        LegacyProblemDataResponse legacy = Jackson2ObjectMapperBuilder.json().build()
+                .readValue(LegacyFixtures.problemData(), LegacyProblemDataResponse.class);
+        ProblemPort port = new InMemoryProblemPort(new SearchByKeyResult(codes), legacyMapper.toResult(legacy, "S00000050"));
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        SessionIndexProperties sessionProperties = new SessionIndexProperties(SessionGuard.Mode.ENFORCE,
+                10_000, Duration.ofHours(12), Duration.ofHours(12), "[A-Za-z0-9_-]{1,128}",
+                Duration.ofMinutes(5));
+        LocalSessionIndex index = new LocalSessionIndex(sessionProperties, registry);
+        index.onLogin(new UserLoggedInEvent(SESSION_ID, USERNAME));
+
+        ProblemService service = new ProblemService(port, new ProblemService.BatchLimits(50, 8),
+                new SessionGuard(index, sessionProperties.mode(), registry), new ServiceObservations(ObservationRegistry.NOOP));
+        controller = new ProblemController(service, new SearchByKeyMapper(), new ProblemDataMapper());
+    }
+
+    @Benchmark
+    public ResponseEntity<SearchByKeyResponse> searchByKey() {
+        return controller.searchByKey("S", SESSION_ID, USERNAME).block();
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDataResponse> problemDetails() {
+        return controller.fetchProblemDetails("S00000050", SESSION_ID, USERNAME).block();
+    }
+}
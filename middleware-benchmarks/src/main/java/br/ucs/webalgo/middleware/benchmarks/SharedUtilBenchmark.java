@@ -0,0 +1,39 @@
+package br.ucs.webalgo.middleware.benchmarks;
+
+import br.ucs.webalgo.middleware.shared.util.ApiMessages;
+import br.ucs.webalgo.middleware.shared.util.CookieUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedUtilBenchmark {
+
+    @Benchmark
+    public String extractSessionCookie() {
+        return CookieUtils.extractCookieValue(LegacyFixtures.SET_COOKIE, "sessionid");
+    }
+
+    @Benchmark
+    public boolean isSuccessOk() {
+        return ApiMessages.isSuccess(LegacyFixtures.SIGN_UP_OK);
+    }
+
+    @Benchmark
+    public boolean isSuccessError() {
+        return ApiMessages.isSuccess(LegacyFixtures.SIGN_UP_ERROR);
+    }
+}
@@ -10,6 +10,7 @@ import br.ucs.webalgo.middleware.application.port.in.auth.dto.ChangePasswordComm
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.LoginCommand;
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.LogoutCommand;
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.SignUpCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 @RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
 @RequestMapping(value = "/api/v1/web-algo/auth")
 public class AuthController {
 
@@ -0,0 +1,92 @@
+package br.ucs.webalgo.middleware.adapter.in.web.auth;
+
+import br.ucs.webalgo.middleware.adapter.in.web.auth.dto.*;
+import br.ucs.webalgo.middleware.adapter.in.web.auth.mapper.ChangePasswordMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.auth.mapper.LoginMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.auth.mapper.LogoutMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.auth.mapper.SignUpMapper;
+import br.ucs.webalgo.middleware.application.port.in.auth.AuthUseCase;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.ChangePasswordCommand;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.LoginCommand;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.LogoutCommand;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.SignUpCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+// Mesmos endpoints do AuthController para o modo bloqueante: cada requisicao roda inteira na sua virtual thread
+@RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@RequestMapping(value = "/api/v1/web-algo/auth")
+public class BlockingAuthController {
+
+    private final AuthUseCase authUseCase;
+    private final LoginMapper loginMapper;
+    private final LogoutMapper logoutMapper;
+    private final SignUpMapper signUpMapper;
+    private final ChangePasswordMapper changePasswordMapper;
+
+    public BlockingAuthController(AuthUseCase authUseCase, LoginMapper loginMapper, LogoutMapper logoutMapper,
+                                  SignUpMapper signUpMapper, ChangePasswordMapper changePasswordMapper) {
+        this.authUseCase = authUseCase;
+        this.loginMapper = loginMapper;
+        this.logoutMapper = logoutMapper;
+        this.signUpMapper = signUpMapper;
+        this.changePasswordMapper = changePasswordMapper;
+    }
+
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponse> login(@RequestBody @Validated LoginRequest req) {
+        LoginCommand command = loginMapper.toCommand(req);
+        return authUseCase.loginBlocking(command)
+                .map(result -> {
+                    LoginResponse body = loginMapper.toResponseWithoutSession(result);
+                    ResponseEntity.BodyBuilder resp = ResponseEntity.ok();
+
+                    if (result.rawSetCookie() != null && !result.rawSetCookie().isBlank()) {
+                        resp.header(HttpHeaders.SET_COOKIE, result.rawSetCookie());
+                    }
+
+                    return resp.body(body);
+                })
+                .orElse(null);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<LogoutResponse> logout(@RequestBody @Validated LogoutRequest req,
+                                                 @CookieValue("sessionid") String sessionId) {
+        LogoutCommand command = logoutMapper.toCommand(req, sessionId);
+        return authUseCase.logoutBlocking(command)
+                .map(result -> ResponseEntity.ok()
+                        .header(HttpHeaders.SET_COOKIE, "sessionid=; Path=/; Max-Age=0") // invalida cookie
+                        .body(logoutMapper.toResponse(result)))
+                .orElse(null);
+    }
+
+    @PostMapping("/signup")
+    public ResponseEntity<SignUpResponse> register(@RequestBody @Validated SignUpRequest req) {
+        SignUpCommand command = signUpMapper.toCommand(req);
+        try {
+            return authUseCase.registerBlocking(command)
+                    .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(signUpMapper.toResponse(result)))
+                    .orElse(null);
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.unprocessableEntity().body(new SignUpResponse(ex.getMessage()));
+        }
+    }
+
+    @PostMapping("/change-password")
+    public ResponseEntity<ChangePasswordResponse> changePassword(@RequestBody @Validated ChangePasswordRequest req) {
+        ChangePasswordCommand command = changePasswordMapper.toCommand(req);
+        try {
+            return authUseCase.changePasswordBlocking(command)
+                    .map(result -> ResponseEntity.ok(changePasswordMapper.toResponse(result)))
+                    .orElse(null);
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ChangePasswordResponse(ex.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.ucs.webalgo.middleware.adapter.in.web.problem;
+
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchItemResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchRequest;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.SearchByKeyResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.ProblemDataMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.SearchByKeyMapper;
+import br.ucs.webalgo.middleware.application.port.in.problem.ProblemUseCase;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+// Mesmos endpoints do ProblemController para o modo bloqueante. So o lote em NDJSON continua devolvendo Flux,
+// porque os itens sao escritos conforme ficam prontos
+@RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@RequestMapping("/api/v1/web-algo/problems")
+public class BlockingProblemController {
+
+    private final ProblemUseCase useCase;
+    private final SearchByKeyMapper searchByKeyMapper;
+    private final ProblemDataMapper problemDataMapper;
+
+    public BlockingProblemController(ProblemUseCase useCase, SearchByKeyMapper searchByKeyMapper, ProblemDataMapper problemDataMapper) {
+        this.useCase = useCase;
+        this.searchByKeyMapper = searchByKeyMapper;
+        this.problemDataMapper = problemDataMapper;
+    }
+
+    @GetMapping("/key/{key}")
+    public ResponseEntity<SearchByKeyResponse> searchByKey(@PathVariable String key,
+                                                           @CookieValue(name = "sessionid") String sessionId,
+                                                           @CookieValue(name = "name") String userName) {
+        SearchByKeyCommand command = searchByKeyMapper.toCommand(key, sessionId, userName);
+
+        try {
+            return useCase.searchProblemByKeyBlocking(command)
+                    .map(searchByKeyMapper::toResponse)
+                    .map(resp -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resp))
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(401).body(new SearchByKeyResponse(List.of(), e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().body(new SearchByKeyResponse(List.of(), e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{code}/details")
+    public ResponseEntity<ProblemDataResponse> fetchProblemDetails(@PathVariable String code,
+                                                                   @CookieValue(name = "sessionid") String sessionId,
+                                                                   @CookieValue(name = "name") String userName) {
+
+        FetchByCodeCommand command = problemDataMapper.toCommand(code, sessionId, userName);
+
+        try {
+            return useCase.fetchProblemDataBlocking(command)
+                    .map(problemDataMapper::toResponse)
+                    .map(resp -> ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(resp))
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(401).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+
+    @PostMapping(value = "/details:batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProblemDetailsBatchResponse> fetchProblemDetailsBatch(@RequestBody ProblemDetailsBatchRequest request,
+                                                                                @CookieValue(name = "sessionid") String sessionId,
+                                                                                @CookieValue(name = "name") String userName) {
+        FetchByCodeBatchCommand command = problemDataMapper.toBatchCommand(request, sessionId, userName);
+
+        try {
+            return useCase.fetchProblemDataBatchBlocking(command)
+                    .map(result -> result.items().map(problemDataMapper::toBatchItemResponse).collectList().block())
+                    .map(items -> ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(new ProblemDetailsBatchResponse(items, null)))
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(401).body(new ProblemDetailsBatchResponse(List.of(), e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().body(new ProblemDetailsBatchResponse(List.of(), e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/details:batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<ProblemDetailsBatchItemResponse>> streamProblemDetailsBatch(@RequestBody ProblemDetailsBatchRequest request,
+                                                                                           @CookieValue(name = "sessionid") String sessionId,
+                                                                                           @CookieValue(name = "name") String userName) {
+        FetchByCodeBatchCommand command = problemDataMapper.toBatchCommand(request, sessionId, userName);
+
+        try {
+            return useCase.fetchProblemDataBatchBlocking(command)
+                    .map(result -> ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .body(result.items().map(problemDataMapper::toBatchItemResponse)))
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(401).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+}
@@ -1,20 +1,27 @@
 package br.ucs.webalgo.middleware.adapter.in.web.problem;
 
 import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchItemResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchRequest;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchResponse;
 import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.SearchByKeyResponse;
 import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.ProblemDataMapper;
 import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.SearchByKeyMapper;
 import br.ucs.webalgo.middleware.application.port.in.problem.ProblemUseCase;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
 @RequestMapping("/api/v1/web-algo/problems")
 public class ProblemController {
 
@@ -59,4 +66,35 @@ public class ProblemController {
                 .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.unprocessableEntity().build()));
     }
 
-}
\ No newline at end of file
+    @PostMapping(value = "/details:batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ProblemDetailsBatchResponse>> fetchProblemDetailsBatch(@RequestBody ProblemDetailsBatchRequest request,
+                                                                                      @CookieValue(name = "sessionid") String sessionId,
+                                                                                      @CookieValue(name = "name") String userName) {
+        FetchByCodeBatchCommand command = problemDataMapper.toBatchCommand(request, sessionId, userName);
+
+        return useCase.fetchProblemDataBatch(command)
+                .flatMap(result -> result.items().map(problemDataMapper::toBatchItemResponse).collectList())
+                .map(items -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(new ProblemDetailsBatchResponse(items, null)))
+                .onErrorResume(IllegalStateException.class, e ->
+                        Mono.just(ResponseEntity.status(401).body(new ProblemDetailsBatchResponse(List.of(), e.getMessage()))))
+                .onErrorResume(IllegalArgumentException.class, e ->
+                        Mono.just(ResponseEntity.unprocessableEntity().body(new ProblemDetailsBatchResponse(List.of(), e.getMessage()))));
+    }
+
+    // Mesmo lote em NDJSON: cada codigo e enviado assim que fica pronto (ou na ordem do pedido, se ordered)
+    @PostMapping(value = "/details:batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<ProblemDetailsBatchItemResponse>>> streamProblemDetailsBatch(@RequestBody ProblemDetailsBatchRequest request,
+                                                                                                 @CookieValue(name = "sessionid") String sessionId,
+                                                                                                 @CookieValue(name = "name") String userName) {
+        FetchByCodeBatchCommand command = problemDataMapper.toBatchCommand(request, sessionId, userName);
+
+        return useCase.fetchProblemDataBatch(command)
+                .map(result -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(result.items().map(problemDataMapper::toBatchItemResponse)))
+                .onErrorResume(IllegalStateException.class, e -> Mono.just(ResponseEntity.status(401).build()))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.unprocessableEntity().build()));
+    }
+}
@@ -0,0 +1,7 @@
+package br.ucs.webalgo.middleware.adapter.in.web.problem.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProblemDetailsBatchItemResponse(String code, ProblemDataResponse data, String error, String message) {
+}
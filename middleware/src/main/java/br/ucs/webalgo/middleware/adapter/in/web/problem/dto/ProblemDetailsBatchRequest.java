@@ -0,0 +1,6 @@
+package br.ucs.webalgo.middleware.adapter.in.web.problem.dto;
+
+import java.util.List;
+
+public record ProblemDetailsBatchRequest(List<String> codes, Boolean ordered) {
+}
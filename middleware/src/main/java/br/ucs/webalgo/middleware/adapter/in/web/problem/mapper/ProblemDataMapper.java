@@ -1,6 +1,10 @@
 package br.ucs.webalgo.middleware.adapter.in.web.problem.mapper;
 
 import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchItemResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDetailsBatchRequest;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchItem;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
 import org.springframework.stereotype.Component;
@@ -11,7 +15,16 @@ public class ProblemDataMapper {
         return new FetchByCodeCommand(code, sessionId, username);
     }
 
+    public FetchByCodeBatchCommand toBatchCommand(ProblemDetailsBatchRequest request, String sessionId, String username) {
+        return new FetchByCodeBatchCommand(request.codes(), !Boolean.FALSE.equals(request.ordered()), sessionId, username);
+    }
+
     public ProblemDataResponse toResponse(FetchByCodeResult result) {
         return new ProblemDataResponse(result.input(), result.output(), result.cost(), result.solutions(), result.ranking(), result.description());
     }
+
+    public ProblemDetailsBatchItemResponse toBatchItemResponse(FetchByCodeBatchItem item) {
+        ProblemDataResponse data = item.result() == null ? null : toResponse(item.result());
+        return new ProblemDetailsBatchItemResponse(item.code(), data, item.error(), item.message());
+    }
 }
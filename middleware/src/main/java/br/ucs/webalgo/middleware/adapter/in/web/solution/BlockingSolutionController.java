@@ -0,0 +1,86 @@
+package br.ucs.webalgo.middleware.adapter.in.web.solution;
+
+import br.ucs.webalgo.middleware.adapter.in.web.solution.dto.*;
+import br.ucs.webalgo.middleware.adapter.in.web.solution.mapper.CreateSolutionMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.solution.mapper.SaveSolutionMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.solution.mapper.SolutionDataMapper;
+import br.ucs.webalgo.middleware.application.port.in.solution.SolutionUseCase;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.CreateSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Mesmos endpoints do SolutionController para o modo bloqueante
+@RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@RequestMapping("/api/v1/web-algo/solutions")
+public class BlockingSolutionController {
+
+    private final SolutionUseCase solutionUseCase;
+    private final SolutionDataMapper solutionDataMapper;
+    private final CreateSolutionMapper createSolutionMapper;
+    private final SaveSolutionMapper saveSolutionMapper;
+
+    public BlockingSolutionController(SolutionUseCase solutionUseCase, SolutionDataMapper solutionDataMapper,
+                                      CreateSolutionMapper createSolutionMapper, SaveSolutionMapper saveSolutionMapper) {
+        this.solutionUseCase = solutionUseCase;
+        this.solutionDataMapper = solutionDataMapper;
+        this.createSolutionMapper = createSolutionMapper;
+        this.saveSolutionMapper = saveSolutionMapper;
+    }
+
+    @GetMapping("/{code}/details")
+    public ResponseEntity<SolutionDataResponse> fetchSolutionDetails(@PathVariable String code,
+                                                                     @CookieValue("sessionid") String sessionId,
+                                                                     @CookieValue("name") String userName) {
+
+        FetchSolutionCommand command = solutionDataMapper.toCommand(code, sessionId, userName);
+
+        try {
+            return solutionUseCase.fetchSolutionDataBlocking(command)
+                    .map(solutionDataMapper::toResponse)
+                    .map(ResponseEntity::ok)
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(401).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<CreateSolutionResponse> create(@RequestBody CreateSolutionRequest req,
+                                                         @CookieValue("sessionid") String sessionId,
+                                                         @CookieValue("name") String userName) {
+
+        CreateSolutionCommand command = createSolutionMapper.toCommand(req.problemCode(), sessionId, userName);
+
+        try {
+            return solutionUseCase.createSolutionBlocking(command)
+                    .map(createSolutionMapper::toResponse)
+                    .map(ResponseEntity::ok)
+                    .orElse(null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+
+    @PostMapping("/save")
+    public ResponseEntity<SaveSolutionResponse> save(@RequestBody SaveSolutionRequest req,
+                                                     @CookieValue("sessionid") String sessionId,
+                                                     @CookieValue("name") String userName) {
+
+        SaveSolutionCommand cmd = saveSolutionMapper.toCommand(req, sessionId, userName);
+
+        try {
+            return solutionUseCase.saveSolutionBlocking(cmd)
+                    .map(saveSolutionMapper::toResponse)
+                    .map(ResponseEntity::ok)
+                    .orElse(null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+}
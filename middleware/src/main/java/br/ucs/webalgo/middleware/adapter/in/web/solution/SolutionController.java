@@ -8,11 +8,13 @@ import br.ucs.webalgo.middleware.application.port.in.solution.SolutionUseCase;
 import br.ucs.webalgo.middleware.application.port.in.solution.dto.CreateSolutionCommand;
 import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionCommand;
 import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 @RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
 @RequestMapping("/api/v1/web-algo/solutions")
 public class SolutionController {
 
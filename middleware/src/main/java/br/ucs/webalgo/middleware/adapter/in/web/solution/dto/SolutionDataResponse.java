@@ -1,12 +1,15 @@
 package br.ucs.webalgo.middleware.adapter.in.web.solution.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record SolutionDataResponse(
         Integer cost,
         String solution,
-        List<SolutionIO> IOList) {
+        List<SolutionIO> IOList,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String syncStatus) {
 
     public record SolutionIO(String input, String output) {
     }
-}
\ No newline at end of file
+}
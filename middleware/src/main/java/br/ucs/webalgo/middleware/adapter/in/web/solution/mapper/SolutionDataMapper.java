@@ -15,6 +15,6 @@ public class SolutionDataMapper {
 
     public SolutionDataResponse toResponse(FetchSolutionResult result) {
         List<SolutionDataResponse.SolutionIO> io = result.ioList() == null ? null : result.ioList().stream().map(x -> new SolutionDataResponse.SolutionIO(x.input(), x.output())).toList();
-        return new SolutionDataResponse(result.cost(), result.solution(), io);
+        return new SolutionDataResponse(result.cost(), result.solution(), io, result.syncStatus());
     }
 }
@@ -0,0 +1,47 @@
+package br.ucs.webalgo.middleware.adapter.in.web.workspace;
+
+import br.ucs.webalgo.middleware.adapter.in.web.workspace.dto.WorkspaceResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.workspace.mapper.WorkspaceMapper;
+import br.ucs.webalgo.middleware.application.port.in.workspace.WorkspaceUseCase;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Mesmo endpoint do WorkspaceController para o modo bloqueante
+@RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@RequestMapping("/api/v1/web-algo/workspace")
+public class BlockingWorkspaceController {
+
+    private final WorkspaceUseCase useCase;
+    private final WorkspaceMapper workspaceMapper;
+
+    public BlockingWorkspaceController(WorkspaceUseCase useCase, WorkspaceMapper workspaceMapper) {
+        this.useCase = useCase;
+        this.workspaceMapper = workspaceMapper;
+    }
+
+    @GetMapping("/{problemCode}")
+    public ResponseEntity<WorkspaceResponse> open(@PathVariable String problemCode,
+                                                  @RequestParam(name = "solution", required = false) String solutionCode,
+                                                  @CookieValue(name = "sessionid") String sessionId,
+                                                  @CookieValue(name = "name") String userName) {
+
+        OpenWorkspaceCommand command = workspaceMapper.toCommand(problemCode, solutionCode, sessionId, userName);
+
+        try {
+            return useCase.openWorkspaceBlocking(command)
+                    .map(result -> ResponseEntity.status(result.isEmpty() ? HttpStatus.BAD_GATEWAY : HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(workspaceMapper.toResponse(result)))
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(401).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.ucs.webalgo.middleware.adapter.in.web.workspace;
+
+import br.ucs.webalgo.middleware.adapter.in.web.workspace.dto.WorkspaceResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.workspace.mapper.WorkspaceMapper;
+import br.ucs.webalgo.middleware.application.port.in.workspace.WorkspaceUseCase;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
+@RequestMapping("/api/v1/web-algo/workspace")
+public class WorkspaceController {
+
+    private final WorkspaceUseCase useCase;
+    private final WorkspaceMapper workspaceMapper;
+
+    public WorkspaceController(WorkspaceUseCase useCase, WorkspaceMapper workspaceMapper) {
+        this.useCase = useCase;
+        this.workspaceMapper = workspaceMapper;
+    }
+
+    // Detalhes do problema + solucao (informada ou a primeira) em uma unica chamada
+    @GetMapping("/{problemCode}")
+    public Mono<ResponseEntity<WorkspaceResponse>> open(@PathVariable String problemCode,
+                                                        @RequestParam(name = "solution", required = false) String solutionCode,
+                                                        @CookieValue(name = "sessionid") String sessionId,
+                                                        @CookieValue(name = "name") String userName) {
+
+        OpenWorkspaceCommand command = workspaceMapper.toCommand(problemCode, solutionCode, sessionId, userName);
+
+        return useCase.openWorkspace(command)
+                .map(result -> ResponseEntity.status(result.isEmpty() ? HttpStatus.BAD_GATEWAY : HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(workspaceMapper.toResponse(result)))
+                .onErrorResume(IllegalStateException.class, e -> Mono.just(ResponseEntity.status(401).build()))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.unprocessableEntity().build()));
+    }
+}
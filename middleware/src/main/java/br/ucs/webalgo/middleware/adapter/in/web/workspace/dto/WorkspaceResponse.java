@@ -0,0 +1,15 @@
+package br.ucs.webalgo.middleware.adapter.in.web.workspace.dto;
+
+import br.ucs.webalgo.middleware.adapter.in.web.problem.dto.ProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.in.web.solution.dto.SolutionDataResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WorkspaceResponse(
+        String problemCode,
+        ProblemDataResponse problem,
+        String problemError,
+        String solutionCode,
+        SolutionDataResponse solution,
+        String solutionError) {
+}
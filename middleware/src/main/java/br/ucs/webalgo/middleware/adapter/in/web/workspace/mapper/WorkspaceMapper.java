@@ -0,0 +1,34 @@
+package br.ucs.webalgo.middleware.adapter.in.web.workspace.mapper;
+
+import br.ucs.webalgo.middleware.adapter.in.web.problem.mapper.ProblemDataMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.solution.mapper.SolutionDataMapper;
+import br.ucs.webalgo.middleware.adapter.in.web.workspace.dto.WorkspaceResponse;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceCommand;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceResult;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkspaceMapper {
+
+    private final ProblemDataMapper problemDataMapper;
+    private final SolutionDataMapper solutionDataMapper;
+
+    public WorkspaceMapper(ProblemDataMapper problemDataMapper, SolutionDataMapper solutionDataMapper) {
+        this.problemDataMapper = problemDataMapper;
+        this.solutionDataMapper = solutionDataMapper;
+    }
+
+    public OpenWorkspaceCommand toCommand(String problemCode, String solutionCode, String sessionId, String username) {
+        return new OpenWorkspaceCommand(problemCode, solutionCode, sessionId, username);
+    }
+
+    public WorkspaceResponse toResponse(OpenWorkspaceResult result) {
+        return new WorkspaceResponse(
+                result.problemCode(),
+                result.problem() == null ? null : problemDataMapper.toResponse(result.problem()),
+                result.problemError(),
+                result.solutionCode(),
+                result.solution() == null ? null : solutionDataMapper.toResponse(result.solution()),
+                result.solutionError());
+    }
+}
@@ -0,0 +1,140 @@
+package br.ucs.webalgo.middleware.adapter.out.cache;
+
+import br.ucs.webalgo.middleware.infrastructure.jfr.CacheAccessEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class StaleWhileRevalidateCache<K, V> {
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final long ttlMillis;
+    private final long maxStaleMillis;
+    private final Predicate<V> cacheable;
+    private final Clock clock;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    public StaleWhileRevalidateCache(String name, Duration ttl, Duration maxStale, Predicate<V> cacheable,
+                                     MeterRegistry registry) {
+        this(name, ttl, maxStale, cacheable, registry, Clock.systemUTC());
+    }
+
+    StaleWhileRevalidateCache(String name, Duration ttl, Duration maxStale, Predicate<V> cacheable,
+                              MeterRegistry registry, Clock clock) {
+        this.name = name;
+        this.ttlMillis = ttl.toMillis();
+        this.maxStaleMillis = maxStale.toMillis();
+        this.cacheable = cacheable;
+        this.clock = clock;
+
+        this.hits = requests(registry, name, "hit");
+        this.staleHits = requests(registry, name, "stale");
+        this.misses = requests(registry, name, "miss");
+        this.refreshSuccess = refreshes(registry, name, "success");
+        this.refreshFailure = refreshes(registry, name, "failure");
+
+        Gauge.builder("webalgo.cache.size", entries, Map::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    public Mono<V> get(K key, Supplier<Mono<V>> loader) {
+        Entry<V> entry = entries.get(key);
+        long now = clock.millis();
+
+        if (entry != null) {
+            long age = now - entry.loadedAt();
+            if (age < ttlMillis) {
+                hits.increment();
+                CacheAccessEvent.emit(name, key, "hit");
+                return Mono.just(entry.value());
+            }
+            if (age < ttlMillis + maxStaleMillis) {
+                staleHits.increment();
+                CacheAccessEvent.emit(name, key, "stale");
+                // Em background de fato: com adapter bloqueante, assinar aqui prenderia quem recebeu o valor vencido
+                load(key, loader).subscribeOn(Schedulers.parallel()).subscribe(v -> { }, e -> { });
+                return Mono.just(entry.value());
+            }
+        }
+
+        misses.increment();
+        CacheAccessEvent.emit(name, key, "miss");
+        return load(key, loader);
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.millis()));
+    }
+
+    // Valor de origem externa (snapshot em disco): ja nasce vencido, o primeiro acesso devolve e recarrega
+    public void putStale(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.millis() - ttlMillis));
+    }
+
+    public Mono<V> refresh(K key, Supplier<Mono<V>> loader) {
+        return load(key, loader);
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public Map<K, V> asMap() {
+        Map<K, V> copy = new ConcurrentHashMap<>();
+        entries.forEach((k, e) -> copy.put(k, e.value()));
+        return copy;
+    }
+
+    // Uma unica carga por chave: misses concorrentes e refreshes compartilham o mesmo Mono
+    private Mono<V> load(K key, Supplier<Mono<V>> loader) {
+        return inFlight.computeIfAbsent(key, k -> Mono.defer(loader)
+                .doOnNext(value -> {
+                    if (cacheable.test(value)) {
+                        put(k, value);
+                    }
+                    refreshSuccess.increment();
+                })
+                .doOnError(e -> refreshFailure.increment())
+                .doFinally(s -> inFlight.remove(k))
+                .cache());
+    }
+
+    private static Counter requests(MeterRegistry registry, String name, String result) {
+        return Counter.builder("webalgo.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter refreshes(MeterRegistry registry, String name, String outcome) {
+        return Counter.builder("webalgo.cache.loads")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,7 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.cluster;
+
+import java.util.List;
+
+// Mensagem trocada entre instancias pela porta de gerenciamento (POST /actuator/cache)
+public record CacheInvalidation(String origin, List<String> problemCodes, boolean purge) {
+}
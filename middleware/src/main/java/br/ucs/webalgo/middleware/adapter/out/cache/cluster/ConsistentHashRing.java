@@ -0,0 +1,60 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Anel imutavel: cada membro ocupa virtualNodes pontos; a chave pertence ao primeiro ponto no sentido horario.
+// Quando um membro sai, so as chaves dele mudam de dono.
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> points;
+    private final List<String> members;
+
+    private ConsistentHashRing(NavigableMap<Long, String> points, List<String> members) {
+        this.points = points;
+        this.members = members;
+    }
+
+    public static ConsistentHashRing of(Collection<String> members, int virtualNodes) {
+        NavigableMap<Long, String> points = new TreeMap<>();
+        List<String> sorted = members.stream().distinct().sorted().toList();
+        for (String member : sorted) {
+            for (int i = 0; i < Math.max(1, virtualNodes); i++) {
+                // Colisao entre membros: o menor na ordem alfabetica fica com o ponto, igual em todas as instancias
+                points.putIfAbsent(hash(member + '#' + i), member);
+            }
+        }
+        return new ConsistentHashRing(points, sorted);
+    }
+
+    public String owner(String key) {
+        if (points.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = points.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : points.firstEntry().getValue();
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    // FNV-1a 64 bits seguido do finalizador do MurmurHash3 para espalhar chaves parecidas (S00000001, S00000002...)
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
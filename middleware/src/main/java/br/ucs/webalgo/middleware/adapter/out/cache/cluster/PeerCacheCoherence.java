@@ -0,0 +1,170 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.cluster;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.CachingProblemPort;
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.ProblemDetailsCache;
+import br.ucs.webalgo.middleware.domain.event.SolutionChangedEvent;
+import br.ucs.webalgo.middleware.infrastructure.config.ClusterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Coerencia entre replicas sem broker: cada gravacao de solucao invalida os detalhes do problema nas outras
+// instancias (lista fixa em web-algo.cluster.peers). Mensagens sao agrupadas por batchDelay e enviadas em paralelo;
+// uma mensagem perdida depois das retentativas so deixa o dado velho ate o TTL do cache.
+@Component
+public class PeerCacheCoherence {
+
+    public static final String PATH = "/actuator/cache";
+
+    private static final Logger log = LoggerFactory.getLogger(PeerCacheCoherence.class);
+
+    private final ClusterProperties properties;
+    private final ProblemDetailsCache details;
+    private final CachingProblemPort problems;
+    private final MeterRegistry registry;
+    private final WebClient client;
+
+    private final Sinks.Many<String> pending = Sinks.many().unicast().onBackpressureBuffer();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Disposable sender;
+
+    public PeerCacheCoherence(ClusterProperties properties, ProblemDetailsCache details, CachingProblemPort problems,
+                              MeterRegistry registry, ObservationRegistry observationRegistry) {
+        this.properties = properties;
+        this.details = details;
+        this.problems = problems;
+        this.registry = registry;
+
+        HttpClient http = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.timeout().toMillis())
+                .responseTimeout(properties.timeout());
+        this.client = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(http))
+                .observationRegistry(observationRegistry)
+                .build();
+
+        this.sender = active()
+                ? pending.asFlux()
+                        .bufferTimeout(Math.max(1, properties.batchSize()), properties.batchDelay())
+                        .concatMap(codes -> broadcast(new CacheInvalidation(properties.nodeId(),
+                                codes.stream().distinct().toList(), false)))
+                        .subscribe()
+                : Disposables.disposed();
+    }
+
+    public boolean active() {
+        return properties.enabled() && !properties.peers().isEmpty();
+    }
+
+    public String nodeId() {
+        return properties.nodeId();
+    }
+
+    public List<String> peers() {
+        return properties.peers();
+    }
+
+    @EventListener
+    public void onSolutionChanged(SolutionChangedEvent event) {
+        if (active() && event.problemCode() != null) {
+            pending.emitNext(event.problemCode(), Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    // Mensagem vinda de outra instancia (token ja conferido pelo ClusterTokenFilter): aplica so localmente, sem repassar
+    public void apply(CacheInvalidation message) {
+        if (properties.nodeId().equals(message.origin())) {
+            return;
+        }
+
+        if (message.purge()) {
+            purgeLocal();
+            log.info("Caches limpos a pedido da instancia {}", message.origin());
+        } else if (message.problemCodes() != null) {
+            message.problemCodes().forEach(details::invalidate);
+        }
+        counter("received", "ok").increment();
+    }
+
+    public void purgeLocal() {
+        details.invalidateAll();
+        problems.invalidateCatalog();
+    }
+
+    public Mono<Map<String, String>> purgeCluster() {
+        purgeLocal();
+        if (!active()) {
+            return Mono.just(Map.of());
+        }
+        return broadcast(new CacheInvalidation(properties.nodeId(), List.of(), true));
+    }
+
+    private Mono<Map<String, String>> broadcast(CacheInvalidation message) {
+        return Flux.fromIterable(properties.peers())
+                .flatMap(peer -> send(peer, message).map(outcome -> Map.entry(peer, outcome)))
+                .collect(LinkedHashMap::new, (map, e) -> map.put(e.getKey(), e.getValue()));
+    }
+
+    private Mono<String> send(String peer, CacheInvalidation message) {
+        return client.post()
+                .uri(peer + PATH)
+                .header(HttpHeaders.AUTHORIZATION, properties.authorization())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body(message))
+                .retrieve()
+                .toBodilessEntity()
+                .retryWhen(Retry.backoff(properties.retries(), Duration.ofMillis(200)))
+                .map(response -> {
+                    counter("sent", "ok").increment();
+                    return "ok";
+                })
+                .onErrorResume(e -> {
+                    counter("sent", "failure").increment();
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.warn("Falha ao enviar invalidacao para {}: {}", peer, cause.toString());
+                    return Mono.just("error");
+                });
+    }
+
+    // Operacoes do actuator recebem o corpo como mapa de strings: os codigos vao separados por virgula
+    private static Map<String, String> body(CacheInvalidation message) {
+        return Map.of("origin", message.origin(),
+                "problemCodes", message.problemCodes() == null ? "" : String.join(",", message.problemCodes()),
+                "purge", String.valueOf(message.purge()));
+    }
+
+    private Counter counter(String direction, String outcome) {
+        return counters.computeIfAbsent(direction + '|' + outcome, k -> Counter.builder("webalgo.cluster.invalidations")
+                .tag("direction", direction)
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.dispose();
+    }
+}
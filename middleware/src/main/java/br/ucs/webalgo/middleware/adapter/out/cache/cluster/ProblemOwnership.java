@@ -0,0 +1,212 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.cluster;
+
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.infrastructure.config.ClusterProperties;
+import br.ucs.webalgo.middleware.infrastructure.config.ShardingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Cada codigo de problema tem uma instancia dona (anel de hash consistente sobre self + peers saudaveis).
+// Quem nao e dono e nao tem o problema em cache pergunta ao dono antes de ir ao /dadosProblema;
+// qualquer falha no dono vira busca direta no legado, nunca erro para o usuario.
+@Component
+public class ProblemOwnership implements ApplicationRunner {
+
+    public static final String PATH = "/actuator/shard";
+    private static final String READINESS_PATH = "/actuator/health/readiness";
+
+    private static final Logger log = LoggerFactory.getLogger(ProblemOwnership.class);
+
+    private final ShardingProperties properties;
+    private final ClusterProperties cluster;
+    private final MeterRegistry registry;
+    private final WebClient client;
+
+    private final Map<String, Boolean> health = new ConcurrentHashMap<>();
+    private final Map<String, Counter> fetches = new ConcurrentHashMap<>();
+    private volatile ConsistentHashRing ring;
+    private Disposable prober;
+
+    public ProblemOwnership(ShardingProperties properties, ClusterProperties cluster, MeterRegistry registry,
+                            ObservationRegistry observationRegistry) {
+        // O pedido ao dono leva o sessionid do usuario e o dono devolve dado por sessao: sem token, nada disso liga
+        if (properties.enabled() && (cluster.token() == null || cluster.token().isBlank())) {
+            throw new IllegalStateException("web-algo.cluster.token (CLUSTER_TOKEN) e obrigatorio com o sharding ligado");
+        }
+        this.properties = properties;
+        this.cluster = cluster;
+        this.registry = registry;
+
+        HttpClient http = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.healthTimeout().toMillis())
+                .responseTimeout(properties.fetchTimeout());
+        this.client = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(http))
+                .observationRegistry(observationRegistry)
+                .build();
+
+        // Ate o primeiro health check os peers ficam fora: tudo e buscado direto no legado
+        this.ring = ConsistentHashRing.of(List.of(properties.self()), properties.virtualNodes());
+    }
+
+    public boolean active() {
+        return properties.enabled() && cluster.enabled() && !properties.self().isEmpty() && !cluster.peers().isEmpty();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!active()) {
+            return;
+        }
+        Gauge.builder("webalgo.sharding.members", this, o -> o.ring.members().size()).register(registry);
+
+        prober = Flux.interval(properties.healthInterval())
+                .startWith(0L)
+                .concatMap(t -> probe())
+                .subscribe();
+    }
+
+    public Mono<FetchByCodeResult> fetch(FetchByCodeCommand command, Supplier<Mono<FetchByCodeResult>> upstream) {
+        if (!active()) {
+            return upstream.get();
+        }
+
+        String owner = ownerOf(command.code());
+        if (owner == null || owner.equals(properties.self()) || command.sessionId() == null || command.username() == null) {
+            counter("local").increment();
+            return upstream.get();
+        }
+
+        return askOwner(owner, command)
+                .doOnSuccess(r -> counter("owner").increment())
+                .onErrorResume(e -> !(e instanceof InvalidSessionException), e -> {
+                    counter("fallback").increment();
+                    log.debug("Dono {} nao respondeu por {}: {}", owner, command.code(), e.toString());
+                    if (e instanceof OwnerUnavailableException) {
+                        mark(owner, false);
+                    }
+                    return upstream.get();
+                });
+    }
+
+    public String ownerOf(String code) {
+        return ring.owner(code);
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", active());
+        status.put("self", properties.self());
+        status.put("members", ring.members());
+        status.put("peers", new LinkedHashMap<>(health));
+        status.put("virtualNodes", properties.virtualNodes());
+        return status;
+    }
+
+    private Mono<FetchByCodeResult> askOwner(String owner, FetchByCodeCommand command) {
+        return client.post()
+                .uri(owner + PATH)
+                .header(HttpHeaders.AUTHORIZATION, cluster.authorization())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("code", command.code(),
+                        "sessionId", command.sessionId(),
+                        "username", command.username()))
+                .exchangeToMono(response -> {
+                    HttpStatus status = HttpStatus.resolve(response.statusCode().value());
+                    if (status == HttpStatus.OK) {
+                        return response.bodyToMono(FetchByCodeResult.class);
+                    }
+                    if (status == HttpStatus.NOT_FOUND) {
+                        return response.releaseBody().then(Mono.<FetchByCodeResult>empty());
+                    }
+                    if (status == HttpStatus.UNAUTHORIZED) {
+                        return response.releaseBody().then(Mono.<FetchByCodeResult>error(
+                                new InvalidSessionException("Sessão inválida")));
+                    }
+                    return response.releaseBody().then(Mono.<FetchByCodeResult>error(
+                            new IllegalStateException("Dono respondeu " + response.statusCode().value())));
+                })
+                .timeout(properties.fetchTimeout())
+                .onErrorMap(e -> !(e instanceof InvalidSessionException) && !(e instanceof IllegalStateException),
+                        OwnerUnavailableException::new);
+    }
+
+    // Readiness: uma instancia em shutdown gracioso sai do anel antes de parar de responder
+    private Mono<Void> probe() {
+        return Flux.fromIterable(cluster.peers())
+                .flatMap(peer -> client.get()
+                        .uri(peer + READINESS_PATH)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .map(r -> true)
+                        .timeout(properties.healthTimeout())
+                        .onErrorReturn(false)
+                        .doOnNext(up -> mark(peer, up)))
+                .then();
+    }
+
+    private void mark(String peer, boolean up) {
+        Boolean previous = health.put(peer, up);
+        if (previous != null && previous == up) {
+            return;
+        }
+
+        synchronized (this) {
+            List<String> members = new ArrayList<>();
+            members.add(properties.self());
+            health.forEach((p, healthy) -> {
+                if (healthy) members.add(p);
+            });
+            ring = ConsistentHashRing.of(members, properties.virtualNodes());
+        }
+        if (previous != null || up) {
+            log.info("Peer {} {} anel de problemas ({} membros)", peer, up ? "entrou no" : "saiu do", ring.members().size());
+        }
+    }
+
+    private Counter counter(String route) {
+        return fetches.computeIfAbsent(route, r -> Counter.builder("webalgo.sharding.fetches")
+                .tag("route", r)
+                .register(registry));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (prober != null) {
+            prober.dispose();
+        }
+    }
+
+    private static final class OwnerUnavailableException extends RuntimeException {
+        OwnerUnavailableException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
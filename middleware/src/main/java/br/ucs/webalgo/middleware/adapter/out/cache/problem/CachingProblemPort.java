@@ -0,0 +1,109 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.problem;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.StaleWhileRevalidateCache;
+import br.ucs.webalgo.middleware.adapter.out.cache.cluster.ProblemOwnership;
+import br.ucs.webalgo.middleware.adapter.out.cache.session.ValidatedSessions;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import br.ucs.webalgo.middleware.application.port.out.problem.ProblemPort;
+import br.ucs.webalgo.middleware.infrastructure.config.CatalogCacheProperties;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Primary
+@Component
+public class CachingProblemPort implements ProblemPort {
+
+    private final ProblemPort delegate;
+    private final CatalogCacheProperties catalogProperties;
+    private final StaleWhileRevalidateCache<String, SearchByKeyResult> catalog;
+    private final ProblemDetailsCache details;
+    private final ProblemOwnership ownership;
+    private final ValidatedSessions sessions;
+
+    public CachingProblemPort(@Qualifier("upstream") ProblemPort delegate, CatalogCacheProperties catalogProperties,
+                              ProblemDetailsCache details, ProblemOwnership ownership, ValidatedSessions sessions,
+                              MeterRegistry registry) {
+        this.delegate = delegate;
+        this.catalogProperties = catalogProperties;
+        this.details = details;
+        this.ownership = ownership;
+        this.sessions = sessions;
+        this.catalog = new StaleWhileRevalidateCache<>("catalog", catalogProperties.ttl(),
+                catalogProperties.maxStale(), CachingProblemPort::accepted, registry);
+    }
+
+    @Override
+    public Mono<SearchByKeyResult> searchProblemByKey(SearchByKeyCommand command) {
+        if (!catalogProperties.enabled()) {
+            return delegate.searchProblemByKey(command);
+        }
+
+        Supplier<Mono<SearchByKeyResult>> upstream = () -> sessions.track(command.sessionId(),
+                delegate.searchProblemByKey(command), CachingProblemPort::accepted);
+        // Sessao ainda nao confirmada pelo legado nao le o cache: vai direto e, se aceita, alimenta o cache
+        if (!sessions.isValidated(command.sessionId())) {
+            return upstream.get().doOnNext(result -> {
+                if (accepted(result)) {
+                    catalog.put(command.key(), result);
+                }
+            });
+        }
+        return catalog.get(command.key(), upstream);
+    }
+
+    @Override
+    public Mono<FetchByCodeResult> fetchProblemData(FetchByCodeCommand command) {
+        // Miss local: com sharding ligado o dono do codigo e consultado antes do legado
+        return fetchDetails(command, () -> ownership.fetch(command, () -> delegate.fetchProblemData(command)));
+    }
+
+    // Pedido de outra instancia que considera esta a dona: nunca repassa, evitando ping-pong entre aneis divergentes
+    public Mono<FetchByCodeResult> fetchAsOwner(FetchByCodeCommand command) {
+        return fetchDetails(command, () -> delegate.fetchProblemData(command));
+    }
+
+    // O dono so responde com dado que o legado entregou para esta mesma sessao, entao a resposta dele tambem confirma
+    private Mono<FetchByCodeResult> fetchDetails(FetchByCodeCommand command, Supplier<Mono<FetchByCodeResult>> loader) {
+        if (StringTools.isNullOrEmpty(command.sessionId())) {
+            return loader.get();
+        }
+
+        ProblemDetailsCache.Key key = ProblemDetailsCache.Key.of(command.code(), command.sessionId());
+        Supplier<Mono<FetchByCodeResult>> upstream = () -> sessions.track(command.sessionId(), loader.get(), r -> true);
+        if (!sessions.isValidated(command.sessionId())) {
+            return details.load(key, upstream);
+        }
+        return details.get(key, upstream);
+    }
+
+    public Map<String, SearchByKeyResult> catalogEntries() {
+        return catalog.asMap();
+    }
+
+    public void invalidateCatalog() {
+        catalog.invalidateAll();
+    }
+
+    public void seedCatalog(String key, SearchByKeyResult value) {
+        catalog.putStale(key, value);
+    }
+
+    public Mono<SearchByKeyResult> refreshCatalog(SearchByKeyCommand command) {
+        return catalog.refresh(command.key(), () -> delegate.searchProblemByKey(command));
+    }
+
+    // Lista vazia normalmente indica sessao invalida no legado; nao deve ser compartilhada
+    private static boolean accepted(SearchByKeyResult result) {
+        return result.codes() != null && !result.codes().isEmpty();
+    }
+}
@@ -0,0 +1,148 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.problem;
+
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.domain.event.SolutionChangedEvent;
+import br.ucs.webalgo.middleware.infrastructure.config.ProblemDetailsCacheProperties;
+import br.ucs.webalgo.middleware.infrastructure.jfr.CacheAccessEvent;
+import br.ucs.webalgo.middleware.shared.util.SessionFingerprints;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ProblemDetailsCache {
+
+    // A lista de solucoes devolvida pelo legado e da sessao do usuario: a chave e o hash do sessionid que o legado
+    // aceitou ao devolver o dado, nunca o cookie "name", que o cliente escolhe
+    public record Key(String code, String session) {
+        public static Key of(String code, String sessionId) {
+            return new Key(code, SessionFingerprints.of(sessionId));
+        }
+    }
+
+    // Valor com o instante (epoch ms) em que sairia do cache; usado pelo snapshot para manter o TTL restante
+    public record Expiring(FetchByCodeResult value, long expiresAt) {
+    }
+
+    private final Cache<Key, FetchByCodeResult> cache;
+    private final Policy.VarExpiration<Key, FetchByCodeResult> expiration;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public ProblemDetailsCache(ProblemDetailsCacheProperties properties, MeterRegistry registry) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((Key key, FetchByCodeResult value) -> weigh(key, value))
+                .expireAfter(Expiry.writing((Key key, FetchByCodeResult value) -> properties.ttl()))
+                .recordStats()
+                .build();
+        this.expiration = cache.policy().expireVariably().orElseThrow();
+        CaffeineCacheMetrics.monitor(registry, cache, "problem-details");
+    }
+
+    public Mono<FetchByCodeResult> get(Key key, Supplier<Mono<FetchByCodeResult>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        FetchByCodeResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            CacheAccessEvent.emit("problem-details", key.code(), "hit");
+            return Mono.just(cached);
+        }
+        CacheAccessEvent.emit("problem-details", key.code(), "miss");
+        return load(key, loader);
+    }
+
+    // Carga sem consultar o cache (sessao ainda nao confirmada); o resultado aceito entra no cache
+    public Mono<FetchByCodeResult> load(Key key, Supplier<Mono<FetchByCodeResult>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        // Uma gravacao concluida durante a carga invalida o resultado que esta chegando
+        long generation = generation(key.code()).get();
+        return loader.get()
+                .doOnNext(value -> {
+                    if (generation(key.code()).get() == generation) {
+                        cache.put(key, value);
+                    }
+                });
+    }
+
+    // Entrada restaurada vence quando venceria na instancia que a gravou, nunca com um TTL novo
+    public void restore(Key key, Expiring entry) {
+        long remaining = entry.expiresAt() - System.currentTimeMillis();
+        if (enabled && remaining > 0) {
+            expiration.put(key, entry.value(), Duration.ofMillis(remaining));
+        }
+    }
+
+    public void invalidate(String code) {
+        generation(code).incrementAndGet();
+        cache.asMap().keySet().removeIf(k -> k.code().equals(code));
+    }
+
+    public void invalidateAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+
+    public Map<Key, FetchByCodeResult> asMap() {
+        return Map.copyOf(cache.asMap());
+    }
+
+    public Map<Key, Expiring> expiringEntries() {
+        long now = System.currentTimeMillis();
+        Map<Key, Expiring> entries = new HashMap<>();
+        cache.asMap().forEach((key, value) -> expiration.getExpiresAfter(key).ifPresent(left ->
+                entries.put(key, new Expiring(value, now + left.toMillis()))));
+        return entries;
+    }
+
+    @EventListener
+    public void onSolutionChanged(SolutionChangedEvent event) {
+        if (event.problemCode() != null) {
+            invalidate(event.problemCode());
+        }
+    }
+
+    private AtomicLong generation(String code) {
+        return generations.computeIfAbsent(code, c -> new AtomicLong());
+    }
+
+    // Estimativa aproximada do heap ocupado (cabecalhos + char[] em UTF-16)
+    private static int weigh(Key key, FetchByCodeResult value) {
+        long bytes = 64
+                + size(key.code()) + size(key.session())
+                + size(value.input()) + size(value.output()) + size(value.description())
+                + size(value.solutions()) + size(value.ranking());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long size(String s) {
+        return s == null ? 0 : 40 + 2L * s.length();
+    }
+
+    private static long size(List<String> list) {
+        if (list == null) return 0;
+        long total = 16 + 4L * list.size();
+        for (String s : list) total += size(s);
+        return total;
+    }
+}
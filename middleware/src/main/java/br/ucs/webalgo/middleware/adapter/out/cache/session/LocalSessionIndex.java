@@ -0,0 +1,84 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.session;
+
+import br.ucs.webalgo.middleware.application.port.out.auth.SessionIndexPort;
+import br.ucs.webalgo.middleware.application.port.out.auth.SessionVerdict;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedInEvent;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedOutEvent;
+import br.ucs.webalgo.middleware.infrastructure.config.SessionIndexProperties;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+// Indice local das sessoes emitidas por esta instancia. O legado continua sendo a autoridade:
+// so e invalida a sessao que sabemos ter sido encerrada, que foi emitida para outro usuario ou que nem tem formato de id.
+@Component
+public class LocalSessionIndex implements SessionIndexPort {
+
+    record Entry(String username, Instant issuedAt) {
+    }
+
+    private final Cache<String, Entry> sessions;
+    private final Cache<String, Instant> loggedOut;
+    private final Pattern idPattern;
+
+    public LocalSessionIndex(SessionIndexProperties properties, MeterRegistry registry) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.loggedOut = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.tombstoneTtl())
+                .build();
+        this.idPattern = Pattern.compile(properties.idPattern());
+        CaffeineCacheMetrics.monitor(registry, sessions, "sessions");
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onLogin(UserLoggedInEvent event) {
+        if (StringTools.isNullOrEmpty(event.sessionId())) {
+            return;
+        }
+        loggedOut.invalidate(event.sessionId());
+        sessions.put(event.sessionId(), new Entry(event.username(), Instant.now()));
+    }
+
+    @EventListener
+    public void onLogout(UserLoggedOutEvent event) {
+        if (StringTools.isNullOrEmpty(event.sessionId())) {
+            return;
+        }
+        sessions.invalidate(event.sessionId());
+        loggedOut.put(event.sessionId(), Instant.now());
+    }
+
+    @Override
+    public SessionVerdict check(String sessionId, String username) {
+        if (StringTools.isNullOrEmpty(sessionId) || !idPattern.matcher(sessionId).matches()) {
+            return SessionVerdict.MALFORMED;
+        }
+        if (loggedOut.getIfPresent(sessionId) != null) {
+            return SessionVerdict.LOGGED_OUT;
+        }
+
+        Entry entry = sessions.getIfPresent(sessionId);
+        if (entry == null) {
+            return SessionVerdict.UNKNOWN;
+        }
+        if (entry.username() != null && username != null && !entry.username().equals(username)) {
+            return SessionVerdict.USER_MISMATCH;
+        }
+        return SessionVerdict.VALID;
+    }
+}
@@ -0,0 +1,39 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.session;
+
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.*;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionPort;
+import br.ucs.webalgo.middleware.shared.util.ApiMessages;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// Respostas de solucao passam pela mesma classificacao dos problemas: so conta como aceita a resposta que traz dado
+// do proprio usuario, porque o legado responde 200 sem conteudo para sessao que ele nao reconhece
+@Primary
+@Component
+public class TrackingSolutionPort implements SolutionPort {
+
+    private final SolutionPort delegate;
+    private final ValidatedSessions sessions;
+
+    public TrackingSolutionPort(@Qualifier("upstream") SolutionPort delegate, ValidatedSessions sessions) {
+        this.delegate = delegate;
+        this.sessions = sessions;
+    }
+
+    @Override
+    public Mono<FetchSolutionResult> fetchSolutionData(FetchSolutionCommand command) {
+        return sessions.track(command.sessionId(), delegate.fetchSolutionData(command), r -> r.solution() != null);
+    }
+
+    @Override
+    public Mono<CreateSolutionResult> createSolution(CreateSolutionCommand command) {
+        return sessions.track(command.sessionId(), delegate.createSolution(command), r -> r.solutionCode() != null);
+    }
+
+    @Override
+    public Mono<SaveSolutionResult> saveSolution(SaveSolutionCommand command) {
+        return sessions.track(command.sessionId(), delegate.saveSolution(command), r -> ApiMessages.isSuccess(r.status()));
+    }
+}
@@ -0,0 +1,97 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.session;
+
+import br.ucs.webalgo.middleware.application.port.out.auth.UpstreamProbe;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedInEvent;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedOutEvent;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.infrastructure.config.SessionIndexProperties;
+import br.ucs.webalgo.middleware.shared.util.SessionFingerprints;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Predicate;
+
+// Sessoes que o legado aceitou ha pouco: login feito por esta instancia ou chamada bem-sucedida com o sessionid.
+// Os caches so respondem a essas sessoes; sessionid forjado, encerrado ou desconhecido sempre passa pelo legado.
+@Component
+public class ValidatedSessions {
+
+    private final Cache<String, Boolean> sessions;
+
+    public ValidatedSessions(SessionIndexProperties properties, MeterRegistry registry) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.validatedTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, sessions, "validated-sessions");
+    }
+
+    public boolean isValidated(String sessionId) {
+        return !StringTools.isNullOrEmpty(sessionId) && sessions.getIfPresent(SessionFingerprints.of(sessionId)) != null;
+    }
+
+    // Resposta aceita renova a validacao; so a recusa explicita a revoga. Timeout, breaker aberto ou 5xx nao dizem
+    // nada sobre a sessao e, numa queda do legado, revogar tiraria de todos justamente o catalogo vencido.
+    // A mesma classificacao vai para a sonda do modo shadow, que compara o veredito do indice com o do legado
+    public <T> Mono<T> track(String sessionId, Mono<T> call, Predicate<T> accepted) {
+        if (StringTools.isNullOrEmpty(sessionId)) {
+            return call;
+        }
+        String fingerprint = SessionFingerprints.of(sessionId);
+        return Mono.deferContextual(ctx -> call
+                .doOnNext(value -> {
+                    boolean ok = accepted.test(value);
+                    if (ok) {
+                        sessions.put(fingerprint, Boolean.TRUE);
+                    } else {
+                        sessions.invalidate(fingerprint);
+                    }
+                    UpstreamProbe.answered(ctx, ok);
+                })
+                .doOnError(ValidatedSessions::rejects, e -> {
+                    sessions.invalidate(fingerprint);
+                    UpstreamProbe.answered(ctx, false);
+                }));
+    }
+
+    // Recusa explicita: sessao invalida apontada pelo dono do shard ou 401/403 do legado
+    static boolean rejects(Throwable e) {
+        if (e instanceof InvalidSessionException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException w) {
+            return w.getStatusCode().value() == 401 || w.getStatusCode().value() == 403;
+        }
+        if (e instanceof RestClientResponseException r) {
+            return r.getStatusCode().value() == 401 || r.getStatusCode().value() == 403;
+        }
+        return false;
+    }
+
+    // Antes do CatalogPrefetcher: o prefetch do login ja encontra a sessao validada e le/alimenta o cache
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onLogin(UserLoggedInEvent event) {
+        if (!StringTools.isNullOrEmpty(event.sessionId())) {
+            sessions.put(SessionFingerprints.of(event.sessionId()), Boolean.TRUE);
+        }
+    }
+
+    @EventListener
+    public void onLogout(UserLoggedOutEvent event) {
+        if (!StringTools.isNullOrEmpty(event.sessionId())) {
+            sessions.invalidate(SessionFingerprints.of(event.sessionId()));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.snapshot;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.ProblemDetailsCache;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+
+import java.util.Map;
+
+public record CatalogSnapshot(long createdAt,
+                              Map<String, SearchByKeyResult> catalog,
+                              Map<ProblemDetailsCache.Key, ProblemDetailsCache.Expiring> details) {
+
+    public boolean isEmpty() {
+        return catalog.isEmpty() && details.isEmpty();
+    }
+}
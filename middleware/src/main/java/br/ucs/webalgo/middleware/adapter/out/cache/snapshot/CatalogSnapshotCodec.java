@@ -0,0 +1,176 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.snapshot;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.ProblemDetailsCache;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// Formato do snapshot (big-endian); catalogo e detalhes vao em arquivos separados, cada um com a outra parte vazia:
+//   int magic "WACS" | short versao | short reservado | long criadoEm (epoch ms)
+//   int nChaves   { str chave; lista codigos }
+//   int nDetalhes { str codigo; str sessao (hash); long venceEm (epoch ms); str input; str output; int? custo;
+//                   lista solucoes; lista ranking; str descricao }
+//   int crc32 de tudo que vem antes
+// str = int tamanho (-1 para null) + bytes UTF-8; lista = int tamanho (-1 para null) + str...; int? = byte presente + int
+public final class CatalogSnapshotCodec {
+
+    static final int MAGIC = 0x57414353;
+    static final short VERSION = 2;
+
+    private static final int HEADER_BYTES = 4 + 2 + 2 + 8;
+    private static final int TRAILER_BYTES = 4;
+
+    private CatalogSnapshotCodec() {
+    }
+
+    public static void write(CatalogSnapshot snapshot, OutputStream target) throws IOException {
+        CRC32 crc = new CRC32();
+        DataOutputStream out = new DataOutputStream(new CheckedOutputStream(target, crc));
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(0);
+        out.writeLong(snapshot.createdAt());
+
+        out.writeInt(snapshot.catalog().size());
+        for (Map.Entry<String, SearchByKeyResult> e : snapshot.catalog().entrySet()) {
+            writeString(out, e.getKey());
+            writeList(out, e.getValue().codes());
+        }
+
+        out.writeInt(snapshot.details().size());
+        for (Map.Entry<ProblemDetailsCache.Key, ProblemDetailsCache.Expiring> e : snapshot.details().entrySet()) {
+            FetchByCodeResult v = e.getValue().value();
+            writeString(out, e.getKey().code());
+            writeString(out, e.getKey().session());
+            out.writeLong(e.getValue().expiresAt());
+            writeString(out, v.input());
+            writeString(out, v.output());
+            out.writeBoolean(v.cost() != null);
+            out.writeInt(v.cost() == null ? 0 : v.cost());
+            writeList(out, v.solutions());
+            writeList(out, v.ranking());
+            writeString(out, v.description());
+        }
+
+        out.flush();
+        // O CRC vai direto no destino, fora do CheckedOutputStream
+        int checksum = (int) crc.getValue();
+        target.write(new byte[]{(byte) (checksum >>> 24), (byte) (checksum >>> 16), (byte) (checksum >>> 8), (byte) checksum});
+        target.flush();
+    }
+
+    public static CatalogSnapshot read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException("Snapshot truncado (" + buffer.remaining() + " bytes)");
+        }
+
+        int end = buffer.limit() - TRAILER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(end));
+        if ((int) crc.getValue() != buffer.getInt(end)) {
+            throw new IOException("Snapshot corrompido (CRC32 nao confere)");
+        }
+
+        ByteBuffer in = buffer.duplicate().limit(end);
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Arquivo nao e um snapshot do catalogo");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IOException("Versao de snapshot nao suportada: " + version);
+        }
+        in.getShort();
+        long createdAt = in.getLong();
+
+        try {
+            int keys = in.getInt();
+            Map<String, SearchByKeyResult> catalog = new HashMap<>(capacity(keys));
+            for (int i = 0; i < keys; i++) {
+                catalog.put(readString(in), new SearchByKeyResult(readList(in)));
+            }
+
+            int count = in.getInt();
+            Map<ProblemDetailsCache.Key, ProblemDetailsCache.Expiring> details = new HashMap<>(capacity(count));
+            for (int i = 0; i < count; i++) {
+                ProblemDetailsCache.Key key = new ProblemDetailsCache.Key(readString(in), readString(in));
+                long expiresAt = in.getLong();
+                String input = readString(in);
+                String output = readString(in);
+                boolean hasCost = in.get() != 0;
+                int cost = in.getInt();
+                List<String> solutions = readList(in);
+                List<String> ranking = readList(in);
+                String description = readString(in);
+                details.put(key, new ProblemDetailsCache.Expiring(
+                        new FetchByCodeResult(input, output, hasCost ? cost : null, solutions, ranking, description),
+                        expiresAt));
+            }
+            return new CatalogSnapshot(createdAt, catalog, details);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Snapshot com estrutura invalida", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("string maior que o restante do arquivo");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readList(ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(Math.min(size, in.remaining() / 4));
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static int capacity(int entries) {
+        return Math.max(16, (int) (Math.max(0, entries) / 0.75f) + 1);
+    }
+}
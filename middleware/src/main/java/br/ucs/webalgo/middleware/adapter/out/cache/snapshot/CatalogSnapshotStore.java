@@ -0,0 +1,263 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.snapshot;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.CachingProblemPort;
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.ProblemDetailsCache;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.LoginCommand;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.LogoutCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import br.ucs.webalgo.middleware.application.port.out.auth.AuthenticationPort;
+import br.ucs.webalgo.middleware.infrastructure.config.CatalogSnapshotProperties;
+import br.ucs.webalgo.middleware.infrastructure.config.PrefetchProperties;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Snapshot do catalogo em disco para restart aquecido: carregado via mmap antes do servidor web subir,
+// regravado periodicamente (tmp + ATOMIC_MOVE) e no shutdown. Chaves do catalogo entram vencidas no cache
+// (servidas na hora e recarregadas no primeiro acesso) e, havendo conta de servico, sao revalidadas em background.
+// Detalhes de problema carregam a lista de solucoes de cada usuario: so vao para disco se ligados explicitamente,
+// em arquivo proprio (0600, sem criptografia) e voltam com o TTL que ainda tinham.
+@Component
+public class CatalogSnapshotStore implements SmartInitializingSingleton, ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotStore.class);
+
+    private final CatalogSnapshotProperties properties;
+    private final CachingProblemPort problems;
+    private final ProblemDetailsCache details;
+    private final AuthenticationPort authentication;
+    private final PrefetchProperties prefetch;
+    private final Path path;
+    private final Path detailsPath;
+
+    private final Timer loadTimer;
+    private final Timer writeTimer;
+    private final AtomicLong sizeBytes = new AtomicLong();
+
+    private Set<String> seededKeys = Set.of();
+    private final Disposable.Composite tasks = Disposables.composite();
+
+    public CatalogSnapshotStore(CatalogSnapshotProperties properties, CachingProblemPort problems,
+                                ProblemDetailsCache details, AuthenticationPort authentication,
+                                PrefetchProperties prefetch, MeterRegistry registry) {
+        this.properties = properties;
+        this.problems = problems;
+        this.details = details;
+        this.authentication = authentication;
+        this.prefetch = prefetch;
+        this.path = Path.of(properties.path()).toAbsolutePath();
+        this.detailsPath = Path.of(properties.detailsPath()).toAbsolutePath();
+
+        this.loadTimer = Timer.builder("webalgo.cache.snapshot.load").register(registry);
+        this.writeTimer = Timer.builder("webalgo.cache.snapshot.write").register(registry);
+        Gauge.builder("webalgo.cache.snapshot.size", sizeBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.enabled()) {
+            load();
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        tasks.add(Flux.interval(properties.interval())
+                .concatMap(t -> Mono.fromRunnable(this::writeQuietly).subscribeOn(Schedulers.boundedElastic()))
+                .subscribe());
+
+        if (properties.revalidate() && !seededKeys.isEmpty()) {
+            revalidate(seededKeys);
+        }
+    }
+
+    void load() {
+        long start = System.nanoTime();
+        CatalogSnapshot catalog = read(path);
+        if (catalog != null) {
+            catalog.catalog().forEach(problems::seedCatalog);
+            seededKeys = Set.copyOf(catalog.catalog().keySet());
+        }
+
+        // Detalhes nao tem revalidacao (dependem da sessao de cada usuario): cada entrada volta so pelo TTL restante
+        int seededDetails = 0;
+        if (properties.details()) {
+            CatalogSnapshot snapshot = read(detailsPath);
+            if (snapshot != null) {
+                snapshot.details().forEach(details::restore);
+                seededDetails = snapshot.details().size();
+            }
+        } else {
+            deleteDetailsSnapshot();
+        }
+
+        if (catalog == null && seededDetails == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        loadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        sizeBytes.set(sizeOf(path) + sizeOf(detailsPath));
+        log.info("Snapshot do catalogo carregado em {} ms: {} chaves, {} detalhes lidos, {} KB",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), catalog == null ? 0 : catalog.catalog().size(), seededDetails,
+                sizeBytes.get() / 1024);
+    }
+
+    private CatalogSnapshot read(Path file) {
+        if (!Files.exists(file)) {
+            log.info("Snapshot ausente em {}; cache comeca vazio", file);
+            return null;
+        }
+
+        CatalogSnapshot snapshot;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            snapshot = CatalogSnapshotCodec.read(buffer);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot ignorado ({}): {}", file, e.getMessage());
+            return null;
+        }
+
+        Duration age = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - snapshot.createdAt()));
+        if (age.compareTo(properties.maxAge()) > 0) {
+            log.info("Snapshot ignorado ({}): gerado ha {} (max-age {})", file, age, properties.maxAge());
+            return null;
+        }
+        return snapshot;
+    }
+
+    synchronized void write() throws IOException {
+        long now = System.currentTimeMillis();
+        long start = System.nanoTime();
+        // Cache vazio (ex.: logo apos um purge) nao sobrescreve um snapshot bom
+        Map<String, SearchByKeyResult> catalog = problems.catalogEntries();
+        if (!catalog.isEmpty()) {
+            write(path, new CatalogSnapshot(now, catalog, Map.of()));
+        }
+        if (properties.details()) {
+            Map<ProblemDetailsCache.Key, ProblemDetailsCache.Expiring> entries = details.expiringEntries();
+            if (!entries.isEmpty()) {
+                write(detailsPath, new CatalogSnapshot(now, Map.of(), entries));
+            }
+        }
+
+        writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        sizeBytes.set(sizeOf(path) + sizeOf(detailsPath));
+    }
+
+    private void write(Path file, CatalogSnapshot snapshot) throws IOException {
+        Path dir = file.getParent();
+        Files.createDirectories(dir);
+        // createTempFile cria o arquivo so com leitura/escrita do dono; o move preserva a permissao
+        Path tmp = Files.createTempFile(dir, file.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024)) {
+                CatalogSnapshotCodec.write(snapshot, out);
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        log.debug("Snapshot gravado em {}: {} chaves, {} detalhes", file, snapshot.catalog().size(),
+                snapshot.details().size());
+    }
+
+    // Com os detalhes desligados nao fica dado por usuario em disco de uma configuracao anterior
+    private void deleteDetailsSnapshot() {
+        try {
+            if (Files.deleteIfExists(detailsPath)) {
+                log.info("Snapshot de detalhes removido ({}): web-algo.cache.snapshot.details=false", detailsPath);
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao remover snapshot de detalhes {}: {}", detailsPath, e.getMessage());
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Falha ao gravar snapshot do catalogo em {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void revalidate(Set<String> keys) {
+        if (StringTools.isNullOrEmpty(prefetch.serviceUsername()) || StringTools.isNullOrEmpty(prefetch.servicePassword())) {
+            log.info("Snapshot do catalogo sem conta de servico: chaves revalidadas no primeiro acesso");
+            return;
+        }
+
+        long start = System.nanoTime();
+        tasks.add(authentication.authenticate(new LoginCommand(prefetch.serviceUsername(), prefetch.servicePassword()))
+                .flatMap(session -> Flux.fromIterable(keys)
+                        .flatMap(key -> problems.refreshCatalog(new SearchByKeyCommand(key, session.sessionId(), session.username()))
+                                .timeout(prefetch.timeout())
+                                .onErrorResume(e -> Mono.empty()), Math.max(1, prefetch.concurrency()))
+                        .count()
+                        .flatMap(n -> authentication.invalidateSession(new LogoutCommand(session.username(), session.sessionId()))
+                                .thenReturn(n)
+                                .onErrorReturn(n)))
+                .subscribe(n -> log.info("Snapshot do catalogo revalidado: {}/{} chaves em {} ms", n, keys.size(),
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)),
+                        e -> log.warn("Revalidacao do snapshot do catalogo falhou: {}", e.getMessage())));
+    }
+
+    @PreDestroy
+    public void stop() {
+        tasks.dispose();
+        if (properties.enabled()) {
+            writeQuietly();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.auth;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.auth.mapper.LegacyAuthMapper;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.BlockingCalls;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyResilience;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.*;
+import br.ucs.webalgo.middleware.application.port.out.auth.AuthenticationPort;
+import br.ucs.webalgo.middleware.domain.exception.InvalidCredentialsException;
+import br.ucs.webalgo.middleware.shared.util.ApiMessages;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Mono;
+
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@Component
+public class BlockingLegacyAuthClient implements AuthenticationPort {
+
+    private final RestClient client;
+    private final LegacyAuthMapper mapper;
+    private final BlockingCalls calls;
+    private final LegacyResilience resilience;
+
+    public BlockingLegacyAuthClient(RestClient client, LegacyAuthMapper mapper, BlockingCalls calls,
+                                    LegacyResilience resilience) {
+        this.client = client;
+        this.mapper = mapper;
+        this.calls = calls;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Mono<LoginResult> authenticate(LoginCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("username", command.username());
+        form.add("password", command.password());
+
+        return calls.call(() -> {
+            ResponseEntity<String> entity = client.post()
+                    .uri("/logUsuario")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(form)
+                    .exchange((req, resp) -> ResponseEntity.status(resp.getStatusCode())
+                            .headers(resp.getHeaders())
+                            .body(resp.bodyTo(String.class)));
+
+            String setCookie = entity.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+            if (StringTools.isNullOrEmpty(setCookie)) {
+                throw new InvalidCredentialsException("Credenciais inválidas");
+            }
+
+            return mapper.fromLegacyEntity(entity);
+        })
+                .transform(resilience.forEndpoint("/logUsuario"));
+    }
+
+    @Override
+    public Mono<LogoutResult> invalidateSession(LogoutCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("username", "nada");
+        form.add("password", "nada");
+
+        return calls.call(() -> {
+            client.post()
+                    .uri("/logoutPortal")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .cookies(c -> {
+                        if (command.sessionId() != null)
+                            c.add("sessionid", command.sessionId());
+                        if (command.username() != null)
+                            c.add("name", command.username());
+                    })
+                    .body(form)
+                    .exchange((req, resp) -> resp.bodyTo(String.class));
+
+            return new LogoutResult(command.username());
+        })
+                .transform(resilience.forEndpoint("/logoutPortal"));
+    }
+
+    @Override
+    public Mono<SignUpResult> register(SignUpCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("nome1", command.firstName());
+        form.add("nome2", command.secondName());
+        form.add("login", command.username());
+        form.add("email", command.email());
+        form.add("obs", command.obs());
+        form.add("sexo", command.gender());
+        form.add("cidade", command.city());
+        form.add("estado", command.state());
+        form.add("senha", command.password());
+
+        return calls.call(() -> {
+            String body = client.post()
+                    .uri("/cadUserp")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(form)
+                    .retrieve()
+                    .body(String.class);
+
+            String msg = mapper.messageOf(body);
+            if (ApiMessages.isSuccess(msg)) {
+                return new SignUpResult(msg);
+            }
+
+            throw new IllegalStateException(msg);
+        })
+                .transform(resilience.forEndpoint("/cadUserp"));
+    }
+
+    @Override
+    public Mono<ChangePasswordResult> changePassword(ChangePasswordCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("login", command.username());
+        form.add("senha1", command.newPassword());
+        form.add("senha2", command.newPassword());
+        form.add("senha3", command.currentPassword());
+
+        return calls.call(() -> {
+            String body = client.post()
+                    .uri("/alteraSenhap")
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(form)
+                    .cookies(c -> {
+                        c.add("sessionid", "SESS");
+                        c.add("name", command.username());
+                    })
+                    .retrieve()
+                    .body(String.class);
+
+            String msg = mapper.messageOf(body);
+            if (ApiMessages.isSuccess(msg)) {
+                return new ChangePasswordResult(msg);
+            }
+            throw new IllegalStateException(msg);
+        })
+                .transform(resilience.forEndpoint("/alteraSenhap"));
+    }
+}
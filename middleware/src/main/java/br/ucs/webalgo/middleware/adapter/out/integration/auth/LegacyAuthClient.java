@@ -1,12 +1,13 @@
 package br.ucs.webalgo.middleware.adapter.out.integration.auth;
 
 import br.ucs.webalgo.middleware.adapter.out.integration.auth.mapper.LegacyAuthMapper;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyResilience;
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.*;
 import br.ucs.webalgo.middleware.application.port.out.auth.AuthenticationPort;
 import br.ucs.webalgo.middleware.domain.exception.InvalidCredentialsException;
 import br.ucs.webalgo.middleware.shared.util.ApiMessages;
 import br.ucs.webalgo.middleware.shared.util.StringTools;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -14,15 +15,18 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
 @Component
 public class LegacyAuthClient implements AuthenticationPort {
 
     private final WebClient client;
     private final LegacyAuthMapper mapper;
+    private final LegacyResilience resilience;
 
-    public LegacyAuthClient(WebClient client, LegacyAuthMapper mapper) {
+    public LegacyAuthClient(WebClient client, LegacyAuthMapper mapper, LegacyResilience resilience) {
         this.client = client;
         this.mapper = mapper;
+        this.resilience = resilience;
     }
 
     @Override
@@ -36,6 +40,7 @@ public class LegacyAuthClient implements AuthenticationPort {
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(form)
                 .exchangeToMono(resp -> resp.toEntity(String.class))
+                .transform(resilience.forEndpoint("/logUsuario"))
                 .flatMap(entity -> {
                     String setCookie = entity.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
                     if (StringTools.isNullOrEmpty(setCookie)) {
@@ -63,6 +68,7 @@ public class LegacyAuthClient implements AuthenticationPort {
                 })
                 .bodyValue(form)
                 .exchangeToMono(resp -> resp.toEntity(String.class))
+                .transform(resilience.forEndpoint("/logoutPortal"))
                 .map(entity -> new LogoutResult(command.username()));
     }
 
@@ -85,8 +91,9 @@ public class LegacyAuthClient implements AuthenticationPort {
                 .bodyValue(form)
                 .retrieve()
                 .bodyToMono(String.class)
+                .transform(resilience.forEndpoint("/cadUserp"))
                 .flatMap(body -> {
-                    String msg = extractMessage("respostas", body);
+                    String msg = mapper.messageOf(body);
                     if (ApiMessages.isSuccess(msg)) {
                         return Mono.just(new SignUpResult(msg));
                     }
@@ -113,20 +120,13 @@ public class LegacyAuthClient implements AuthenticationPort {
                 })
                 .retrieve()
                 .bodyToMono(String.class)
+                .transform(resilience.forEndpoint("/alteraSenhap"))
                 .flatMap(body -> {
-                    String msg = extractMessage("respostas", body);
+                    String msg = mapper.messageOf(body);
                     if (ApiMessages.isSuccess(msg)) {
                         return Mono.just(new ChangePasswordResult(msg));
                     }
                     return Mono.error(new IllegalStateException(msg));
                 });
     }
-
-    private String extractMessage(String path, String body) {
-        try {
-            return new ObjectMapper().readTree(body).path(path).asText(null);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
\ No newline at end of file
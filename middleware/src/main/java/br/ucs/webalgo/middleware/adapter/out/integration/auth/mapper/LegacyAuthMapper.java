@@ -1,8 +1,8 @@
 package br.ucs.webalgo.middleware.adapter.out.integration.auth.mapper;
 
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.LoginResult;
 import br.ucs.webalgo.middleware.shared.util.CookieUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -10,19 +10,22 @@ import org.springframework.stereotype.Component;
 @Component
 public class LegacyAuthMapper {
 
-    private final ObjectMapper om = new ObjectMapper();
+    private final LegacyPayloads payloads;
+
+    public LegacyAuthMapper(LegacyPayloads payloads) {
+        this.payloads = payloads;
+    }
 
     public LoginResult fromLegacyEntity(ResponseEntity<String> entity) {
         String setCookie = entity.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
         String sessionId = CookieUtils.extractCookieValue(setCookie, "sessionid");
-
-        String username = null;
-        try {
-            username = om.readTree(entity.getBody()).path("respostas").asText(null);
-        } catch (Exception ignored) {
-        }
+        String username = payloads.text(entity.getBody(), "respostas");
 
         return new LoginResult(sessionId, username, setCookie);
     }
 
+    public String messageOf(String body) {
+        return payloads.text(body, "respostas");
+    }
+
 }
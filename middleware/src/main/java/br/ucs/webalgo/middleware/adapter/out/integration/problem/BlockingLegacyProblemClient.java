@@ -0,0 +1,95 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.problem;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.mapper.LegacyProblemMapper;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.BlockingCalls;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyHedging;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyResilience;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyRetry;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.SingleFlight;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import br.ucs.webalgo.middleware.application.port.out.problem.ProblemPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Mono;
+
+@Qualifier("upstream")
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@Component
+public class BlockingLegacyProblemClient implements ProblemPort {
+
+    private final RestClient client;
+    private final LegacyProblemMapper problemMapper;
+    private final SingleFlight singleFlight;
+    private final BlockingCalls calls;
+    private final LegacyResilience resilience;
+    private final LegacyHedging hedging;
+    private final LegacyRetry retry;
+    private final LegacyPayloads payloads;
+
+    public BlockingLegacyProblemClient(RestClient client, LegacyProblemMapper problemMapper, SingleFlight singleFlight,
+                                       BlockingCalls calls,
+                                       LegacyResilience resilience, LegacyHedging hedging, LegacyRetry retry,
+                                       LegacyPayloads payloads) {
+        this.client = client;
+        this.problemMapper = problemMapper;
+        this.singleFlight = singleFlight;
+        this.calls = calls;
+        this.resilience = resilience;
+        this.hedging = hedging;
+        this.retry = retry;
+        this.payloads = payloads;
+    }
+
+    @Override
+    public Mono<SearchByKeyResult> searchProblemByKey(SearchByKeyCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("pChave", "");
+        form.add("pTipo", command.key());
+
+        String identity = SingleFlight.identity(command.sessionId(), command.username());
+        return singleFlight.execute("/buscaProblemasChave", form, identity, () -> calls.call(() -> client.post()
+                        .uri("/buscaProblemasChave")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .body(form)
+                        .cookies(c -> {
+                            c.add("sessionid", command.sessionId());
+                            c.add("name", command.username());
+                        })
+                        .exchange((req, res) -> payloads.read("/buscaProblemasChave", req, res, payloads.searchByKey())))
+                .transform(resilience.forEndpoint("/buscaProblemasChave"))
+                .transform(hedging.forEndpoint("/buscaProblemasChave"))
+                .transform(retry.forEndpoint("/buscaProblemasChave"))
+                .map(problemMapper::toResult));
+    }
+
+    @Override
+    public Mono<FetchByCodeResult> fetchProblemData(FetchByCodeCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("codigoProblema", command.code());
+
+        String identity = SingleFlight.identity(command.sessionId(), command.username());
+        return singleFlight.execute("/dadosProblema", form, identity, () -> calls.call(() -> client.post()
+                        .uri("/dadosProblema")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .body(form)
+                        .cookies(c -> {
+                            c.add("sessionid", command.sessionId());
+                            c.add("name", command.username());
+                        })
+                        .exchange((req, res) -> payloads.read("/dadosProblema", req, res, payloads.problemData())))
+                .transform(resilience.forEndpoint("/dadosProblema"))
+                .transform(hedging.forEndpoint("/dadosProblema"))
+                .transform(retry.forEndpoint("/dadosProblema"))
+                .map(res -> problemMapper.toResult(res, command.code())));
+    }
+}
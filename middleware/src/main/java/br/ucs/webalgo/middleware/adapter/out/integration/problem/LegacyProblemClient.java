@@ -1,28 +1,48 @@
 package br.ucs.webalgo.middleware.adapter.out.integration.problem;
 
-import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacyProblemDataResponse;
-import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacySearchByKeyResponse;
 import br.ucs.webalgo.middleware.adapter.out.integration.problem.mapper.LegacyProblemMapper;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyHedging;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyResilience;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyRetry;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.SingleFlight;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
 import br.ucs.webalgo.middleware.application.port.out.problem.ProblemPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+@Qualifier("upstream")
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
 @Component
 public class LegacyProblemClient implements ProblemPort {
 
     private final WebClient client;
     private final LegacyProblemMapper problemMapper;
+    private final SingleFlight singleFlight;
+    private final LegacyResilience resilience;
+    private final LegacyHedging hedging;
+    private final LegacyRetry retry;
+    private final LegacyPayloads payloads;
 
-    public LegacyProblemClient(WebClient client, LegacyProblemMapper problemMapper) {
+    public LegacyProblemClient(WebClient client, LegacyProblemMapper problemMapper, SingleFlight singleFlight,
+                               LegacyResilience resilience, LegacyHedging hedging, LegacyRetry retry,
+                               LegacyPayloads payloads) {
         this.client = client;
         this.problemMapper = problemMapper;
+        this.singleFlight = singleFlight;
+        this.resilience = resilience;
+        this.hedging = hedging;
+        this.retry = retry;
+        this.payloads = payloads;
     }
 
     public Mono<SearchByKeyResult> searchProblemByKey(SearchByKeyCommand command) {
@@ -30,7 +50,9 @@ public class LegacyProblemClient implements ProblemPort {
         form.add("pChave", "");
         form.add("pTipo", command.key());
 
-        return client.post()
+        // O legado pode recusar a sessao: so chamadas da mesma sessao compartilham a resposta
+        String identity = SingleFlight.identity(command.sessionId(), command.username());
+        return singleFlight.execute("/buscaProblemasChave", form, identity, () -> client.post()
                 .uri("/buscaProblemasChave")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .accept(MediaType.APPLICATION_JSON)
@@ -40,8 +62,12 @@ public class LegacyProblemClient implements ProblemPort {
                     c.add("name", command.username());
                 })
                 .retrieve()
-                .bodyToMono(LegacySearchByKeyResponse.class)
-                .map(problemMapper::toResult);
+                .bodyToFlux(DataBuffer.class)
+                .as(payloads.decoder("/buscaProblemasChave", payloads.searchByKey()))
+                .transform(resilience.forEndpoint("/buscaProblemasChave"))
+                .transform(hedging.forEndpoint("/buscaProblemasChave"))
+                .transform(retry.forEndpoint("/buscaProblemasChave"))
+                .map(problemMapper::toResult));
     }
 
     @Override
@@ -49,7 +75,8 @@ public class LegacyProblemClient implements ProblemPort {
         LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
         form.add("codigoProblema", command.code());
 
-        return client.post()
+        String identity = SingleFlight.identity(command.sessionId(), command.username());
+        return singleFlight.execute("/dadosProblema", form, identity, () -> client.post()
                 .uri("/dadosProblema")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .accept(MediaType.APPLICATION_JSON)
@@ -59,8 +86,12 @@ public class LegacyProblemClient implements ProblemPort {
                     c.add("name", command.username());
                 })
                 .retrieve()
-                .bodyToMono(LegacyProblemDataResponse.class)
-                .map(res -> problemMapper.toResult(res, command.code()));
+                .bodyToFlux(DataBuffer.class)
+                .as(payloads.decoder("/dadosProblema", payloads.problemData()))
+                .transform(resilience.forEndpoint("/dadosProblema"))
+                .transform(hedging.forEndpoint("/dadosProblema"))
+                .transform(retry.forEndpoint("/dadosProblema"))
+                .map(res -> problemMapper.toResult(res, command.code())));
     }
 
 }
\ No newline at end of file
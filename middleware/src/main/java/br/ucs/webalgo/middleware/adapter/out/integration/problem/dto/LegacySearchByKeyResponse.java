@@ -1,9 +1,7 @@
 package br.ucs.webalgo.middleware.adapter.out.integration.problem.dto;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-
 import java.util.List;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
-public record LegacySearchByKeyResponse(List<List<String>> probs) {
+// Primeira coluna de cada linha de "probs" (o codigo do problema), extraida por LegacyPayloads
+public record LegacySearchByKeyResponse(List<String> codes) {
 }
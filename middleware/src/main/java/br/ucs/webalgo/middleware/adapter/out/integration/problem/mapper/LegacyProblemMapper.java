@@ -12,13 +12,7 @@ import java.util.List;
 public class LegacyProblemMapper {
 
     public SearchByKeyResult toResult(LegacySearchByKeyResponse legacy) {
-        List<String> codes =
-                legacy.probs() == null ? List.of()
-                        : legacy.probs().stream()
-                        .flatMap(list -> list.stream().findFirst().stream())
-                        .toList();
-
-        return new SearchByKeyResult(codes);
+        return new SearchByKeyResult(legacy.codes() == null ? List.of() : List.copyOf(legacy.codes()));
     }
 
     public FetchByCodeResult toResult(LegacyProblemDataResponse res, String code) {
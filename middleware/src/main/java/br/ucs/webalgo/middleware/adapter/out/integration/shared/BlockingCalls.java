@@ -0,0 +1,28 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+
+// Chamada bloqueante ao legado (RestClient). Quem assina numa virtual thread (a da requisicao, no modo bloqueante)
+// executa a chamada ali mesmo, sem troca de thread. So quem assina numa thread de plataforma (timer de retry/hedging,
+// flush do write-behind, warm-up) e desviado para uma virtual thread nova, para nao prender os schedulers do Reactor
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@Component
+public class BlockingCalls {
+
+    private final Scheduler scheduler;
+
+    public BlockingCalls(Scheduler legacyBlockingScheduler) {
+        this.scheduler = legacyBlockingScheduler;
+    }
+
+    public <T> Mono<T> call(Callable<T> call) {
+        return Mono.defer(() -> Thread.currentThread().isVirtual()
+                ? Mono.fromCallable(call)
+                : Mono.fromCallable(call).subscribeOn(scheduler));
+    }
+}
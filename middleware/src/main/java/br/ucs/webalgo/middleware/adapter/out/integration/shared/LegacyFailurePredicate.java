@@ -0,0 +1,27 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.domain.exception.InvalidCredentialsException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+// Falhas que indicam problema no servidor legado; respostas de negocio e erros 4xx nao abrem o circuito
+public class LegacyFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable e) {
+        if (e instanceof InvalidCredentialsException
+                || e instanceof IllegalStateException
+                || e instanceof IllegalArgumentException) {
+            return false;
+        }
+        if (e instanceof WebClientResponseException w) {
+            return w.getStatusCode().is5xxServerError();
+        }
+        if (e instanceof RestClientResponseException r) {
+            return r.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+}
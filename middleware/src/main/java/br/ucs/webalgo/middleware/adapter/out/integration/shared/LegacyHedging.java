@@ -0,0 +1,138 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.infrastructure.config.HedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+// Hedging de leituras idempotentes: se a primeira tentativa passar do p95 observado do endpoint,
+// dispara uma copia e fica com a primeira resposta. Um orcamento global limita a carga extra no legado.
+@Component
+public class LegacyHedging {
+
+    private final HedgingProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private final Object budgetLock = new Object();
+    private double tokens;
+
+    private record Endpoint(Timer latency, Timer hedgeLatency, Counter hedges, Counter wins, Counter denied) {
+    }
+
+    public LegacyHedging(HedgingProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    public <T> Function<Mono<T>, Mono<T>> forEndpoint(String uri) {
+        return attempt -> Mono.defer(() -> {
+            Endpoint endpoint = endpoint(uri);
+            Mono<T> primary = timedPrimary(attempt, endpoint);
+            if (!properties.enabled()) {
+                return primary;
+            }
+
+            deposit();
+            Duration delay = hedgeDelay(endpoint);
+            if (delay == null) {
+                return primary;
+            }
+
+            // Erros da copia sao ignorados: quem decide falha e a tentativa principal
+            // A principal sai da thread de quem assina: um adapter bloqueante a executaria ali mesmo e a copia
+            // so seria disparada depois de ela terminar
+            Mono<T> hedge = Mono.delay(delay)
+                    .flatMap(t -> {
+                        if (!withdraw()) {
+                            endpoint.denied().increment();
+                            return Mono.<T>never();
+                        }
+                        endpoint.hedges().increment();
+                        return timedHedge(attempt, endpoint)
+                                .doOnNext(v -> endpoint.wins().increment())
+                                .onErrorResume(e -> Mono.never());
+                    });
+
+            return Mono.firstWithSignal(primary.subscribeOn(Schedulers.parallel()), hedge);
+        });
+    }
+
+    // O p95 que define o atraso da copia so ve tentativas principais. Uma principal cancelada (a copia venceu)
+    // entra com o tempo decorrido ate o cancelamento; sem isso o p95 ignoraria justamente as chamadas lentas.
+    private <T> Mono<T> timedPrimary(Mono<T> attempt, Endpoint endpoint) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            Runnable record = () -> {
+                if (recorded.compareAndSet(false, true)) {
+                    endpoint.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+            return attempt
+                    .doOnNext(v -> record.run())
+                    .doOnCancel(record);
+        });
+    }
+
+    private <T> Mono<T> timedHedge(Mono<T> attempt, Endpoint endpoint) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt.doOnNext(v -> endpoint.hedgeLatency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Duration hedgeDelay(Endpoint endpoint) {
+        if (endpoint.latency().count() < properties.minSamples()) {
+            return null;
+        }
+        for (ValueAtPercentile p : endpoint.latency().takeSnapshot().percentileValues()) {
+            if (p.percentile() == 0.95) {
+                Duration p95 = Duration.ofNanos((long) p.value(TimeUnit.NANOSECONDS));
+                return p95.compareTo(properties.minDelay()) > 0 ? p95 : properties.minDelay();
+            }
+        }
+        return null;
+    }
+
+    // Cada tentativa principal deposita budgetPercent/100 fichas; cada copia consome uma
+    private void deposit() {
+        synchronized (budgetLock) {
+            tokens = Math.min(properties.maxBurst(), tokens + properties.budgetPercent() / 100.0);
+        }
+    }
+
+    private boolean withdraw() {
+        synchronized (budgetLock) {
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private Endpoint endpoint(String uri) {
+        return endpoints.computeIfAbsent(uri, u -> new Endpoint(
+                Timer.builder("webalgo.legacy.read.latency")
+                        .tag("uri", u)
+                        .publishPercentiles(0.95)
+                        .distributionStatisticExpiry(Duration.ofMinutes(1))
+                        .register(registry),
+                Timer.builder("webalgo.legacy.hedge.latency").tag("uri", u).register(registry),
+                Counter.builder("webalgo.legacy.hedges").tag("uri", u).register(registry),
+                Counter.builder("webalgo.legacy.hedge.wins").tag("uri", u).register(registry),
+                Counter.builder("webalgo.legacy.hedge.denied").tag("uri", u).register(registry)));
+    }
+}
@@ -0,0 +1,240 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacyProblemDataResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.problem.dto.LegacySearchByKeyResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacyCreateSolutionResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySaveSolutionResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySolutionDataResponse;
+import br.ucs.webalgo.middleware.infrastructure.config.LegacyPayloadProperties;
+import br.ucs.webalgo.middleware.infrastructure.metrics.LegacyClientMetrics;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+// Decodificacao das respostas do legado direto do parser de streaming do Jackson: JsonFactory e ObjectReaders
+// compartilhados, so os campos que os mappers usam e limite de tamanho por endpoint (sem String nem JsonNode no meio).
+@Component
+public class LegacyPayloads {
+
+    @FunctionalInterface
+    public interface PayloadReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private final JsonFactory factory;
+    private final ObjectReader problemDataReader;
+    private final ObjectReader solutionDataReader;
+    private final PayloadReader<LegacyCreateSolutionResponse> createSolutionReader =
+            text("resposta", LegacyCreateSolutionResponse::new);
+    private final PayloadReader<LegacySaveSolutionResponse> saveSolutionReader =
+            text("resposta", LegacySaveSolutionResponse::new);
+    private final long defaultLimit;
+    private final Map<String, Long> limits = new HashMap<>();
+    private final DefaultResponseErrorHandler errorHandler = new DefaultResponseErrorHandler();
+    private final LegacyClientMetrics metrics;
+
+    public LegacyPayloads(ObjectMapper objectMapper, LegacyPayloadProperties properties, LegacyClientMetrics metrics) {
+        this.metrics = metrics;
+        this.factory = objectMapper.getFactory();
+        this.problemDataReader = objectMapper.readerFor(LegacyProblemDataResponse.class);
+        this.solutionDataReader = objectMapper.readerFor(LegacySolutionDataResponse.class);
+        this.defaultLimit = properties.defaultMaxSize().toBytes();
+        if (properties.maxSize() != null) {
+            properties.maxSize().forEach((uri, size) -> limits.put(normalize(uri), size.toBytes()));
+        }
+    }
+
+    public PayloadReader<LegacySearchByKeyResponse> searchByKey() {
+        return LegacyPayloads::readSearchByKey;
+    }
+
+    public PayloadReader<LegacyProblemDataResponse> problemData() {
+        return problemDataReader::readValue;
+    }
+
+    public PayloadReader<LegacySolutionDataResponse> solutionData() {
+        return solutionDataReader::readValue;
+    }
+
+    public PayloadReader<LegacyCreateSolutionResponse> createSolution() {
+        return createSolutionReader;
+    }
+
+    public PayloadReader<LegacySaveSolutionResponse> saveSolution() {
+        return saveSolutionReader;
+    }
+
+    // Respostas do tipo {"resposta": "..."} / {"respostas": "..."}
+    public <T> PayloadReader<T> text(String field, Function<String, T> constructor) {
+        return parser -> constructor.apply(seekField(parser, field) ? scalarText(parser) : null);
+    }
+
+    public String text(String body, String field) {
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+        try (JsonParser parser = factory.createParser(body)) {
+            return seekField(parser, field) ? scalarText(parser) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // WebClient: junta os buffers do Netty so ate o limite do endpoint e le sem copiar para String
+    public <T> Function<Flux<DataBuffer>, Mono<T>> decoder(String uri, PayloadReader<T> reader) {
+        int limit = (int) Math.min(Integer.MAX_VALUE, limitOf(uri));
+        // DataBufferLimitException e IllegalStateException, que os controllers tratam como sessao invalida
+        return body -> DataBufferUtils.join(body, limit)
+                .onErrorMap(DataBufferLimitException.class, e -> tooLarge(uri, limit))
+                .<T>handle((buffer, sink) -> {
+                    try (InputStream in = buffer.asInputStream(true)) {
+                        T value = parse(uri, in, reader, LegacyClientMetrics.decodeSlot(sink.contextView()));
+                        if (value != null) {
+                            sink.next(value);
+                        }
+                    } catch (IOException e) {
+                        sink.error(new DecodingException("Resposta invalida de " + uri + ": " + e.getMessage(), e));
+                    }
+                })
+                .contextWrite(LegacyClientMetrics::withDecodeSlot);
+    }
+
+    // RestClient: mesmo tratamento de status do retrieve() e leitura direto do InputStream da conexao
+    public <T> T read(String uri, HttpRequest request, ClientHttpResponse response, PayloadReader<T> reader) throws IOException {
+        if (errorHandler.hasError(response)) {
+            errorHandler.handleError(request.getURI(), request.getMethod(), response);
+        }
+        try (InputStream in = new LimitedInputStream(response.getBody(), uri, limitOf(uri))) {
+            return parse(uri, in, reader, LegacyClientMetrics.decodeSlot(request));
+        }
+    }
+
+    private <T> T parse(String uri, InputStream in, PayloadReader<T> reader, LegacyClientMetrics.DecodeSlot slot)
+            throws IOException {
+        long start = System.nanoTime();
+        try (JsonParser parser = factory.createParser(in)) {
+            // Corpo vazio: mesmo comportamento do bodyToMono (nenhum valor)
+            return parser.nextToken() == null ? null : reader.read(parser);
+        } finally {
+            metrics.recordDecode(uri, System.nanoTime() - start, slot);
+        }
+    }
+
+    private static DecodingException tooLarge(String uri, long limit) {
+        return new DecodingException("Resposta de " + uri + " excedeu " + limit + " bytes");
+    }
+
+    private long limitOf(String uri) {
+        return limits.getOrDefault(normalize(uri), defaultLimit);
+    }
+
+    private static String normalize(String uri) {
+        return (uri.startsWith("/") ? uri.substring(1) : uri).toLowerCase(Locale.ROOT);
+    }
+
+    private static LegacySearchByKeyResponse readSearchByKey(JsonParser parser) throws IOException {
+        List<String> codes = new ArrayList<>();
+        if (!seekField(parser, "probs") || parser.currentToken() != JsonToken.START_ARRAY) {
+            return new LegacySearchByKeyResponse(codes);
+        }
+
+        // Cada linha e [codigo, titulo, ...]; so o codigo interessa
+        JsonToken row;
+        while ((row = parser.nextToken()) != JsonToken.END_ARRAY && row != null) {
+            if (row != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.END_ARRAY) {
+                continue;
+            }
+            if (first.isScalarValue() && first != JsonToken.VALUE_NULL) {
+                codes.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+        }
+        return new LegacySearchByKeyResponse(codes);
+    }
+
+    // Posiciona o parser no valor do campo de topo; false se o campo nao existir
+    private static boolean seekField(JsonParser parser, String field) throws IOException {
+        JsonToken start = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+        if (start != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (field.equals(name)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static String scalarText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        return token != null && token.isScalarValue() && token != JsonToken.VALUE_NULL ? parser.getText() : null;
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final String uri;
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, String uri, long limit) {
+            super(in);
+            this.uri = uri;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) check(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) check(n);
+            return n;
+        }
+
+        private void check(int n) {
+            count += n;
+            if (count > limit) {
+                throw tooLarge(uri, limit);
+            }
+        }
+    }
+}
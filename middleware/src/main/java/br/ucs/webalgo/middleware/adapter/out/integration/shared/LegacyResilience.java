@@ -0,0 +1,72 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.application.port.out.auth.UpstreamProbe;
+import br.ucs.webalgo.middleware.domain.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// Circuit breaker + bulkhead por endpoint do legado (/logUsuario, /dadosProblema, /alteraAlgo, ...)
+@Component
+public class LegacyResilience {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyResilience.class);
+
+    // Bulkhead cheio nao tem espera configurada (max-wait-duration=0): vagas liberam assim que chamadas terminam
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public LegacyResilience(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                            MeterRegistry registry) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+
+        circuitBreakers.getEventPublisher().onEntryAdded(added -> added.getAddedEntry().getEventPublisher()
+                .onStateTransition(event -> {
+                    CircuitBreaker.StateTransition transition = event.getStateTransition();
+                    log.warn("Circuit breaker {}: {} -> {}", event.getCircuitBreakerName(),
+                            transition.getFromState(), transition.getToState());
+                    Counter.builder("webalgo.legacy.circuit.transitions")
+                            .tag("name", event.getCircuitBreakerName())
+                            .tag("from", transition.getFromState().name())
+                            .tag("to", transition.getToState().name())
+                            .register(registry)
+                            .increment();
+                }));
+    }
+
+    public <T> Function<Mono<T>, Mono<T>> forEndpoint(String uri) {
+        String name = uri.startsWith("/") ? uri.substring(1) : uri;
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheads.bulkhead(name);
+        Duration openWait = Duration.ofMillis(circuitBreaker.getCircuitBreakerConfig()
+                .getWaitIntervalFunctionInOpenState().apply(1));
+        Duration bulkheadWait = bulkhead.getBulkheadConfig().getMaxWaitDuration().isZero()
+                ? BULKHEAD_RETRY_AFTER
+                : bulkhead.getBulkheadConfig().getMaxWaitDuration();
+
+        return mono -> UpstreamProbe.marking(mono)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(CallNotPermittedException.class,
+                        e -> new UpstreamUnavailableException("Servidor web-algo indisponível (" + uri + ")", e, openWait))
+                .onErrorMap(BulkheadFullException.class,
+                        e -> new UpstreamUnavailableException("Limite de chamadas simultâneas atingido (" + uri + ")", e, bulkheadWait));
+    }
+}
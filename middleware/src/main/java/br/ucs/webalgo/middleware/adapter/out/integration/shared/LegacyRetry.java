@@ -0,0 +1,97 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.infrastructure.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Retry com backoff exponencial + jitter, somente para leituras idempotentes.
+// Gravacoes (/alteraAlgo, /cadSolucao, ...) nunca passam por aqui.
+@Component
+public class LegacyRetry {
+
+    // Leituras que podem ser repetidas sem efeito colateral no legado; qualquer outro endpoint passa sem retry
+    static final Set<String> IDEMPOTENT = Set.of("/buscaProblemasChave", "/dadosProblema", "/dadosSolucao");
+
+    private final RetryProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> retries = new ConcurrentHashMap<>();
+    private final Map<String, Counter> exhausted = new ConcurrentHashMap<>();
+
+    private final Object budgetLock = new Object();
+    private double tokens;
+
+    public LegacyRetry(RetryProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+        this.tokens = properties.budgetMaxTokens();
+    }
+
+    public <T> Function<Mono<T>, Mono<T>> forEndpoint(String uri) {
+        if (!properties.enabled() || properties.maxRetries() <= 0 || !IDEMPOTENT.contains(uri)) {
+            return Function.identity();
+        }
+
+        Retry spec = Retry.backoff(properties.maxRetries(), properties.minBackoff())
+                .maxBackoff(properties.maxBackoff())
+                .jitter(properties.jitter())
+                .filter(e -> retryable(e) && withdraw(uri))
+                .doBeforeRetry(signal -> counter(retries, "webalgo.legacy.retries", uri).increment())
+                .onRetryExhaustedThrow((s, signal) -> signal.failure());
+
+        return attempt -> attempt
+                .doOnNext(v -> deposit())
+                .retryWhen(spec);
+    }
+
+    static boolean retryable(Throwable e) {
+        if (e instanceof WebClientRequestException || e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException w) {
+            return isGatewayError(w.getStatusCode().value());
+        }
+        if (e instanceof HttpServerErrorException h) {
+            return isGatewayError(h.getStatusCode().value());
+        }
+        return false;
+    }
+
+    private static boolean isGatewayError(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    // Orcamento de retries: cada sucesso deposita budgetRatio fichas e cada retry consome uma,
+    // entao com o legado sobrecarregado os retries param sozinhos
+    private void deposit() {
+        synchronized (budgetLock) {
+            tokens = Math.min(properties.budgetMaxTokens(), tokens + properties.budgetRatio());
+        }
+    }
+
+    private boolean withdraw(String uri) {
+        synchronized (budgetLock) {
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+        }
+        counter(exhausted, "webalgo.legacy.retry.budget.exhausted", uri).increment();
+        return false;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String uri) {
+        return counters.computeIfAbsent(uri, u -> Counter.builder(name).tag("uri", u).register(registry));
+    }
+}
@@ -0,0 +1,72 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.application.port.out.auth.UpstreamProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+public class SingleFlight {
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalesced = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public SingleFlight(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("webalgo.legacy.singleflight.inflight", inFlight, Map::size)
+                .register(registry);
+    }
+
+    // Chamadas identicas (uri + formulario + identidade) em andamento compartilham o mesmo Mono.
+    // O cancelamento e por contagem de referencias: a chamada so e cancelada quando todos desistem.
+    // replay(1): quem entra depois do valor emitido e antes da entrada sair do mapa ainda recebe o valor.
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String uri, MultiValueMap<String, String> form, String identity,
+                               Supplier<Mono<T>> call) {
+        String key = uri + '?' + form + '#' + (identity == null ? "" : identity);
+
+        // A marca fica fora do compartilhamento: cada assinante carrega o proprio contexto
+        return UpstreamProbe.marking(Mono.defer(() -> {
+            boolean[] created = {false};
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return share(k, call);
+            });
+            if (!created[0]) {
+                coalesced(uri).increment();
+            }
+            return shared;
+        }));
+    }
+
+    public static String identity(String sessionId, String username) {
+        return sessionId + '|' + username;
+    }
+
+    private <T> Mono<T> share(String key, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> self = new AtomicReference<>();
+        Mono<T> shared = Mono.defer(call)
+                .doFinally(s -> inFlight.remove(key, self.get()))
+                .flux()
+                .replay(1)
+                .refCount(1)
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+
+    private Counter coalesced(String uri) {
+        return coalesced.computeIfAbsent(uri, u -> Counter.builder("webalgo.legacy.singleflight.coalesced")
+                .tag("uri", u)
+                .register(registry));
+    }
+}
@@ -0,0 +1,110 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.solution;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.BlockingCalls;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyHedging;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyResilience;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyRetry;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.SingleFlight;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.mapper.LegacySolutionMapper;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.*;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Mono;
+
+@Qualifier("upstream")
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+@Component
+public class BlockingLegacySolutionClient implements SolutionPort {
+
+    private final RestClient client;
+    private final LegacySolutionMapper solutionMapper;
+    private final SingleFlight singleFlight;
+    private final BlockingCalls calls;
+    private final LegacyResilience resilience;
+    private final LegacyHedging hedging;
+    private final LegacyRetry retry;
+    private final LegacyPayloads payloads;
+
+    public BlockingLegacySolutionClient(RestClient client, LegacySolutionMapper solutionMapper,
+                                        SingleFlight singleFlight, BlockingCalls calls,
+                                        LegacyResilience resilience, LegacyHedging hedging, LegacyRetry retry,
+                                        LegacyPayloads payloads) {
+        this.client = client;
+        this.solutionMapper = solutionMapper;
+        this.singleFlight = singleFlight;
+        this.calls = calls;
+        this.resilience = resilience;
+        this.hedging = hedging;
+        this.retry = retry;
+        this.payloads = payloads;
+    }
+
+    @Override
+    public Mono<FetchSolutionResult> fetchSolutionData(FetchSolutionCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("codigoPS", command.code());
+
+        String identity = SingleFlight.identity(command.sessionId(), command.username());
+        return singleFlight.execute("/dadosSolucao", form, identity, () -> calls.call(() -> client.post()
+                        .uri("/dadosSolucao")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .body(form)
+                        .cookies(c -> {
+                            c.add("sessionid", command.sessionId());
+                            c.add("name", command.username());
+                        })
+                        .exchange((req, res) -> payloads.read("/dadosSolucao", req, res, payloads.solutionData())))
+                .transform(resilience.forEndpoint("/dadosSolucao"))
+                .transform(hedging.forEndpoint("/dadosSolucao"))
+                .transform(retry.forEndpoint("/dadosSolucao"))
+                .map(solutionMapper::toResult));
+    }
+
+    @Override
+    public Mono<CreateSolutionResult> createSolution(CreateSolutionCommand command) {
+        LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("dadosProb", command.problemCode());
+
+        return calls.call(() -> client.post()
+                        .uri("/cadSolucao")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .body(form)
+                        .cookies(c -> {
+                            c.add("sessionid", command.sessionId());
+                            c.add("name", command.username());
+                        })
+                        .exchange((req, res) -> payloads.read("/cadSolucao", req, res, payloads.createSolution())))
+                .transform(resilience.forEndpoint("/cadSolucao"))
+                .map(el -> solutionMapper.toResult(el, command.problemCode()));
+    }
+
+    @Override
+    public Mono<SaveSolutionResult> saveSolution(SaveSolutionCommand command) {
+        var form = new LinkedMultiValueMap<String, String>();
+        form.add("algo", command.algorithm());
+        form.add("dadosProb", command.problemCode());
+        form.add("custo", String.valueOf(command.cost()));
+        form.add("resposta", command.answer());
+
+        return calls.call(() -> client.post()
+                        .uri("/alteraAlgo")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .body(form)
+                        .cookies(c -> {
+                            c.add("sessionid", command.sessionId());
+                            c.add("name", command.username());
+                        })
+                        .exchange((req, res) -> payloads.read("/alteraAlgo", req, res, payloads.saveSolution())))
+                .transform(resilience.forEndpoint("/alteraAlgo"))
+                .map(solutionMapper::toResult);
+    }
+}
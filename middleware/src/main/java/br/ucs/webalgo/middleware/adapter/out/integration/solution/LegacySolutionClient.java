@@ -1,26 +1,45 @@
 package br.ucs.webalgo.middleware.adapter.out.integration.solution;
 
-import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacyCreateSolutionResponse;
-import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySaveSolutionResponse;
-import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySolutionDataResponse;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyHedging;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyResilience;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyRetry;
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.SingleFlight;
 import br.ucs.webalgo.middleware.adapter.out.integration.solution.mapper.LegacySolutionMapper;
 import br.ucs.webalgo.middleware.application.port.in.solution.dto.*;
 import br.ucs.webalgo.middleware.application.port.out.solution.SolutionPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+@Qualifier("upstream")
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "reactive", matchIfMissing = true)
 @Component
 public class LegacySolutionClient implements SolutionPort {
 
     private final WebClient client;
     private final LegacySolutionMapper solutionMapper;
+    private final SingleFlight singleFlight;
+    private final LegacyResilience resilience;
+    private final LegacyHedging hedging;
+    private final LegacyRetry retry;
+    private final LegacyPayloads payloads;
 
-    public LegacySolutionClient(WebClient client, LegacySolutionMapper solutionMapper) {
+    public LegacySolutionClient(WebClient client, LegacySolutionMapper solutionMapper, SingleFlight singleFlight,
+                                LegacyResilience resilience, LegacyHedging hedging, LegacyRetry retry,
+                                LegacyPayloads payloads) {
         this.client = client;
         this.solutionMapper = solutionMapper;
+        this.singleFlight = singleFlight;
+        this.resilience = resilience;
+        this.hedging = hedging;
+        this.retry = retry;
+        this.payloads = payloads;
     }
 
     @Override
@@ -28,7 +47,8 @@ public class LegacySolutionClient implements SolutionPort {
         LinkedMultiValueMap<String, String> form = new LinkedMultiValueMap<>();
         form.add("codigoPS", command.code());
 
-        return client.post()
+        String identity = SingleFlight.identity(command.sessionId(), command.username());
+        return singleFlight.execute("/dadosSolucao", form, identity, () -> client.post()
                 .uri("/dadosSolucao")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .accept(MediaType.APPLICATION_JSON)
@@ -38,8 +58,12 @@ public class LegacySolutionClient implements SolutionPort {
                     c.add("name", command.username());
                 })
                 .retrieve()
-                .bodyToMono(LegacySolutionDataResponse.class)
-                .map(solutionMapper::toResult);
+                .bodyToFlux(DataBuffer.class)
+                .as(payloads.decoder("/dadosSolucao", payloads.solutionData()))
+                .transform(resilience.forEndpoint("/dadosSolucao"))
+                .transform(hedging.forEndpoint("/dadosSolucao"))
+                .transform(retry.forEndpoint("/dadosSolucao"))
+                .map(solutionMapper::toResult));
     }
 
     @Override
@@ -57,7 +81,9 @@ public class LegacySolutionClient implements SolutionPort {
                     c.add("name", command.username());
                 })
                 .retrieve()
-                .bodyToMono(LegacyCreateSolutionResponse.class)
+                .bodyToFlux(DataBuffer.class)
+                .as(payloads.decoder("/cadSolucao", payloads.createSolution()))
+                .transform(resilience.forEndpoint("/cadSolucao"))
                 .map(el -> solutionMapper.toResult(el, command.problemCode()));
     }
 
@@ -79,7 +105,9 @@ public class LegacySolutionClient implements SolutionPort {
                     c.add("name", command.username());
                 })
                 .retrieve()
-                .bodyToMono(LegacySaveSolutionResponse.class)
+                .bodyToFlux(DataBuffer.class)
+                .as(payloads.decoder("/alteraAlgo", payloads.saveSolution()))
+                .transform(resilience.forEndpoint("/alteraAlgo"))
                 .map(solutionMapper::toResult);
     }
 }
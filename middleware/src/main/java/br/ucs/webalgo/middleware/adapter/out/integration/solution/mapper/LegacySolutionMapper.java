@@ -28,6 +28,8 @@ public class LegacySolutionMapper {
     }
 
     public CreateSolutionResult toResult(LegacyCreateSolutionResponse response, String problemCode) {
+        // Sem resposta o legado nao criou nada: devolver "null_<codigo>" apontaria para uma solucao inexistente
+        if (response == null || response.resposta() == null) return new CreateSolutionResult(null);
         return new CreateSolutionResult(response.resposta() + "_" + problemCode);
     }
 
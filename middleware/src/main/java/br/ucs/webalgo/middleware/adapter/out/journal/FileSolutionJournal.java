@@ -0,0 +1,216 @@
+package br.ucs.webalgo.middleware.adapter.out.journal;
+
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionJournalPort;
+import br.ucs.webalgo.middleware.infrastructure.config.WriteBehindProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// Arquivo append-only em JSON por linha: "save" com o comando e o fingerprint da sessao, "ack" quando o legado confirmou
+// e "dead" quando o envio foi abandonado.
+// Quando passa do limite, e reescrito (arquivo temporario + move atomico) so com o que ainda esta pendente.
+@Component
+public class FileSolutionJournal implements SolutionJournalPort {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSolutionJournal.class);
+
+    record Key(String owner, String solutionCode) {
+        static Key of(Entry entry) {
+            return new Key(entry.owner(), entry.command().problemCode());
+        }
+    }
+
+    record Record(String op, long seq, String owner, SaveSolutionCommand command, String solutionCode) {
+    }
+
+    private final WriteBehindProperties properties;
+    private final ObjectMapper mapper;
+    private final Path path;
+    private final Map<Key, Entry> live = new LinkedHashMap<>();
+    private FileChannel channel;
+    private long seq;
+    private long bytes;
+
+    public FileSolutionJournal(WriteBehindProperties properties, ObjectMapper mapper) {
+        this.properties = properties;
+        this.mapper = mapper;
+        this.path = Path.of(properties.path());
+    }
+
+    @Override
+    public synchronized List<Entry> replay() {
+        live.clear();
+        try {
+            if (Files.exists(path)) {
+                List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i);
+                    if (line.isBlank()) continue;
+                    try {
+                        apply(mapper.readValue(line, Record.class));
+                    } catch (IOException e) {
+                        // Ultima linha cortada por um crash durante a escrita
+                        log.warn("Linha {} do diario de gravacoes ignorada: {}", i + 1, e.getMessage());
+                    }
+                }
+            }
+            rewrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return live.values().stream().filter(entry -> !entry.dead()).toList();
+    }
+
+    @Override
+    public synchronized Entry append(String owner, SaveSolutionCommand command) {
+        Entry entry = new Entry(++seq, owner, command);
+        write(new Record("save", entry.seq(), owner, command, null));
+        live.put(Key.of(entry), entry);
+        return entry;
+    }
+
+    @Override
+    public synchronized void acknowledge(Entry entry) {
+        Key key = Key.of(entry);
+        write(new Record("ack", entry.seq(), key.owner(), null, key.solutionCode()));
+        live.remove(key, entry);
+        compactIfNeeded();
+    }
+
+    @Override
+    public synchronized void deadLetter(Entry entry) {
+        Key key = Key.of(entry);
+        write(new Record("dead", entry.seq(), key.owner(), null, key.solutionCode()));
+        live.replace(key, entry, new Entry(entry.seq(), entry.owner(), entry.command(), true));
+        compactIfNeeded();
+    }
+
+    @Override
+    public synchronized Optional<Entry> pending(String owner, String solutionCode) {
+        return Optional.ofNullable(live.get(new Key(owner, solutionCode)));
+    }
+
+    @Override
+    public synchronized int pendingCount() {
+        return (int) live.values().stream().filter(entry -> !entry.dead()).count();
+    }
+
+    @Override
+    public synchronized int deadCount() {
+        return (int) live.values().stream().filter(Entry::dead).count();
+    }
+
+    private void apply(Record record) {
+        seq = Math.max(seq, record.seq());
+        // Linha de versao anterior, sem fingerprint (e com o sessionid em claro): a reescrita a descarta
+        if (record.owner() == null) {
+            return;
+        }
+        if ("save".equals(record.op()) && record.command() != null) {
+            Entry entry = new Entry(record.seq(), record.owner(), record.command());
+            live.put(Key.of(entry), entry);
+        } else if ("ack".equals(record.op()) || "dead".equals(record.op())) {
+            Key key = new Key(record.owner(), record.solutionCode());
+            Entry current = live.get(key);
+            // Um "save" posterior da mesma solucao continua pendente
+            if (current == null || current.seq() > record.seq()) {
+                return;
+            }
+            if ("ack".equals(record.op())) {
+                live.remove(key);
+            } else {
+                live.put(key, new Entry(current.seq(), current.owner(), current.command(), true));
+            }
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (bytes > properties.compactThreshold().toBytes()) {
+            try {
+                rewrite();
+            } catch (IOException e) {
+                log.warn("Falha ao compactar o diario de gravacoes: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void write(Record record) {
+        try {
+            if (channel == null) {
+                open();
+            }
+            ByteBuffer buffer = line(record);
+            while (buffer.hasRemaining()) {
+                bytes += channel.write(buffer);
+            }
+            if (properties.fsync()) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer line(Record record) throws IOException {
+        return ByteBuffer.wrap((mapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+        bytes = channel.size();
+    }
+
+    private void rewrite() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            for (Entry entry : live.values()) {
+                out.write(line(new Record("save", entry.seq(), entry.owner(), entry.command(), null)));
+                if (entry.dead()) {
+                    Key key = Key.of(entry);
+                    out.write(line(new Record("dead", entry.seq(), key.owner(), null, key.solutionCode())));
+                }
+            }
+            out.force(true);
+        }
+        closeChannel();
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open();
+    }
+
+    @PreDestroy
+    synchronized void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
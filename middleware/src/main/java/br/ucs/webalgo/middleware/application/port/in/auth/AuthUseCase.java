@@ -3,6 +3,8 @@ package br.ucs.webalgo.middleware.application.port.in.auth;
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.*;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 public interface AuthUseCase {
 
     Mono<LoginResult> login(LoginCommand command);
@@ -12,4 +14,21 @@ public interface AuthUseCase {
     Mono<SignUpResult> register(SignUpCommand command);
 
     Mono<ChangePasswordResult> changePassword(ChangePasswordCommand command);
+
+    // Versao sincrona para os controllers do modo bloqueante, que ja rodam na virtual thread da requisicao
+    default Optional<LoginResult> loginBlocking(LoginCommand command) {
+        return login(command).blockOptional();
+    }
+
+    default Optional<LogoutResult> logoutBlocking(LogoutCommand command) {
+        return logout(command).blockOptional();
+    }
+
+    default Optional<SignUpResult> registerBlocking(SignUpCommand command) {
+        return register(command).blockOptional();
+    }
+
+    default Optional<ChangePasswordResult> changePasswordBlocking(ChangePasswordCommand command) {
+        return changePassword(command).blockOptional();
+    }
 }
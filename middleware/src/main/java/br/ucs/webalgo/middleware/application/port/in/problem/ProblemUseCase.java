@@ -1,14 +1,32 @@
 package br.ucs.webalgo.middleware.application.port.in.problem;
 
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchResult;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 public interface ProblemUseCase {
     Mono<SearchByKeyResult> searchProblemByKey(SearchByKeyCommand command);
 
     Mono<FetchByCodeResult> fetchProblemData(FetchByCodeCommand command);
 
+    Mono<FetchByCodeBatchResult> fetchProblemDataBatch(FetchByCodeBatchCommand command);
+
+    // Versao sincrona para os controllers do modo bloqueante, que ja rodam na virtual thread da requisicao
+    default Optional<SearchByKeyResult> searchProblemByKeyBlocking(SearchByKeyCommand command) {
+        return searchProblemByKey(command).blockOptional();
+    }
+
+    default Optional<FetchByCodeResult> fetchProblemDataBlocking(FetchByCodeCommand command) {
+        return fetchProblemData(command).blockOptional();
+    }
+
+    default Optional<FetchByCodeBatchResult> fetchProblemDataBatchBlocking(FetchByCodeBatchCommand command) {
+        return fetchProblemDataBatch(command).blockOptional();
+    }
 }
@@ -0,0 +1,5 @@
+package br.ucs.webalgo.middleware.application.port.in.problem.dto;
+
+import java.util.List;
+
+public record FetchByCodeBatchCommand(List<String> codes, boolean ordered, String sessionId, String username) {}
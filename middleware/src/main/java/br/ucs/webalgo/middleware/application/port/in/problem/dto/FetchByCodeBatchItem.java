@@ -0,0 +1,12 @@
+package br.ucs.webalgo.middleware.application.port.in.problem.dto;
+
+public record FetchByCodeBatchItem(String code, FetchByCodeResult result, String error, String message) {
+
+    public static FetchByCodeBatchItem ok(String code, FetchByCodeResult result) {
+        return new FetchByCodeBatchItem(code, result, null, null);
+    }
+
+    public static FetchByCodeBatchItem failed(String code, String error, String message) {
+        return new FetchByCodeBatchItem(code, null, error, message);
+    }
+}
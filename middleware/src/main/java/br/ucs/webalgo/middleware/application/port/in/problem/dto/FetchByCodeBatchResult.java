@@ -0,0 +1,6 @@
+package br.ucs.webalgo.middleware.application.port.in.problem.dto;
+
+import reactor.core.publisher.Flux;
+
+// Itens sao emitidos na ordem do pedido (ordered) ou conforme cada codigo termina
+public record FetchByCodeBatchResult(int size, Flux<FetchByCodeBatchItem> items) {}
@@ -3,6 +3,8 @@ package br.ucs.webalgo.middleware.application.port.in.solution;
 import br.ucs.webalgo.middleware.application.port.in.solution.dto.*;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+
 public interface SolutionUseCase {
 
     Mono<FetchSolutionResult> fetchSolutionData(FetchSolutionCommand command);
@@ -10,4 +12,17 @@ public interface SolutionUseCase {
     Mono<CreateSolutionResult> createSolution(CreateSolutionCommand command);
 
     Mono<SaveSolutionResult> saveSolution(SaveSolutionCommand command);
+
+    // Versao sincrona para os controllers do modo bloqueante, que ja rodam na virtual thread da requisicao
+    default Optional<FetchSolutionResult> fetchSolutionDataBlocking(FetchSolutionCommand command) {
+        return fetchSolutionData(command).blockOptional();
+    }
+
+    default Optional<CreateSolutionResult> createSolutionBlocking(CreateSolutionCommand command) {
+        return createSolution(command).blockOptional();
+    }
+
+    default Optional<SaveSolutionResult> saveSolutionBlocking(SaveSolutionCommand command) {
+        return saveSolution(command).blockOptional();
+    }
 }
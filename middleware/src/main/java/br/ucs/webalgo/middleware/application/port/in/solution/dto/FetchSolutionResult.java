@@ -2,10 +2,16 @@ package br.ucs.webalgo.middleware.application.port.in.solution.dto;
 
 import java.util.List;
 
+// syncStatus: preenchido so quando a versao vem do diario de write-behind e ainda nao esta no legado
 public record FetchSolutionResult(Integer cost,
                                   String solution,
-                                  List<SolutionIO> ioList) {
+                                  List<SolutionIO> ioList,
+                                  String syncStatus) {
+
+    public FetchSolutionResult(Integer cost, String solution, List<SolutionIO> ioList) {
+        this(cost, solution, ioList, null);
+    }
 
     public record SolutionIO(String input, String output) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package br.ucs.webalgo.middleware.application.port.in.workspace;
+
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceCommand;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceResult;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+public interface WorkspaceUseCase {
+
+    Mono<OpenWorkspaceResult> openWorkspace(OpenWorkspaceCommand command);
+
+    // Versao sincrona para os controllers do modo bloqueante, que ja rodam na virtual thread da requisicao
+    default Optional<OpenWorkspaceResult> openWorkspaceBlocking(OpenWorkspaceCommand command) {
+        return openWorkspace(command).blockOptional();
+    }
+}
@@ -0,0 +1,4 @@
+package br.ucs.webalgo.middleware.application.port.in.workspace.dto;
+
+public record OpenWorkspaceCommand(String problemCode, String solutionCode, String sessionId, String username) {
+}
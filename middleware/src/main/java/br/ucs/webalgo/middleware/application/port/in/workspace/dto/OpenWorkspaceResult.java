@@ -0,0 +1,17 @@
+package br.ucs.webalgo.middleware.application.port.in.workspace.dto;
+
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionResult;
+
+// Resultado parcial: cada lado traz o dado ou o codigo de erro
+public record OpenWorkspaceResult(String problemCode,
+                                  FetchByCodeResult problem,
+                                  String problemError,
+                                  String solutionCode,
+                                  FetchSolutionResult solution,
+                                  String solutionError) {
+
+    public boolean isEmpty() {
+        return problem == null && solution == null;
+    }
+}
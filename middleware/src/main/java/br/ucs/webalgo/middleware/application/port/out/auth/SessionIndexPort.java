@@ -0,0 +1,5 @@
+package br.ucs.webalgo.middleware.application.port.out.auth;
+
+public interface SessionIndexPort {
+    SessionVerdict check(String sessionId, String username);
+}
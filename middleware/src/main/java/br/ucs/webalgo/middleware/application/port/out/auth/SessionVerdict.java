@@ -0,0 +1,14 @@
+package br.ucs.webalgo.middleware.application.port.out.auth;
+
+public enum SessionVerdict {
+    VALID,
+    // Sessao emitida por outra instancia ou antes de um restart: so o legado sabe
+    UNKNOWN,
+    MALFORMED,
+    LOGGED_OUT,
+    USER_MISMATCH;
+
+    public boolean isInvalid() {
+        return this == MALFORMED || this == LOGGED_OUT || this == USER_MISMATCH;
+    }
+}
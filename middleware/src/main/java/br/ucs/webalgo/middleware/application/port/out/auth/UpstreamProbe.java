@@ -0,0 +1,40 @@
+package br.ucs.webalgo.middleware.application.port.out.auth;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+// Marcador no contexto Reactor: os adapters do legado o marcam quando a chamada de fato sai para o legado.
+// Resposta sem marca veio de cache, de outra replica ou da fila de write-behind.
+// O veredito do legado (aceitou ou recusou a sessao) e anotado por quem ja classifica a resposta para a validacao.
+public final class UpstreamProbe {
+
+    public static final Class<UpstreamProbe> KEY = UpstreamProbe.class;
+
+    public enum Answer {
+        NONE,
+        ACCEPTED,
+        REJECTED
+    }
+
+    private volatile boolean called;
+    private volatile Answer answer = Answer.NONE;
+
+    public boolean called() {
+        return called;
+    }
+
+    public Answer answer() {
+        return answer;
+    }
+
+    public static <T> Mono<T> marking(Mono<T> call) {
+        return Mono.deferContextual(ctx -> {
+            ctx.<UpstreamProbe>getOrEmpty(KEY).ifPresent(probe -> probe.called = true);
+            return call;
+        });
+    }
+
+    public static void answered(ContextView ctx, boolean accepted) {
+        ctx.<UpstreamProbe>getOrEmpty(KEY).ifPresent(probe -> probe.answer = accepted ? Answer.ACCEPTED : Answer.REJECTED);
+    }
+}
@@ -0,0 +1,11 @@
+package br.ucs.webalgo.middleware.application.port.out.observation;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+// Observacao (span/metrica) de uma operacao de service; a implementacao fica na infraestrutura
+public interface ObservationPort {
+
+    <T> Mono<T> observe(String service, String operation, Supplier<Mono<T>> call);
+}
@@ -0,0 +1,33 @@
+package br.ucs.webalgo.middleware.application.port.out.solution;
+
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionCommand;
+
+import java.util.List;
+import java.util.Optional;
+
+// Diario duravel das gravacoes ainda nao enviadas ao legado; guarda so a ultima versao por (sessao, solucao).
+// A sessao entra como fingerprint e o comando chega sem o sessionid: o token nunca vai para o disco.
+// Gravacao que o legado recusou de vez fica "morta": nao e reenviada, mas continua visivel ate uma nova gravacao.
+public interface SolutionJournalPort {
+
+    record Entry(long seq, String owner, SaveSolutionCommand command, boolean dead) {
+        public Entry(long seq, String owner, SaveSolutionCommand command) {
+            this(seq, owner, command, false);
+        }
+    }
+
+    // Entradas a reenviar (as mortas ficam de fora)
+    List<Entry> replay();
+
+    Entry append(String owner, SaveSolutionCommand command);
+
+    void acknowledge(Entry entry);
+
+    void deadLetter(Entry entry);
+
+    Optional<Entry> pending(String owner, String solutionCode);
+
+    int pendingCount();
+
+    int deadCount();
+}
@@ -3,6 +3,10 @@ package br.ucs.webalgo.middleware.application.port.service.auth;
 import br.ucs.webalgo.middleware.application.port.in.auth.AuthUseCase;
 import br.ucs.webalgo.middleware.application.port.in.auth.dto.*;
 import br.ucs.webalgo.middleware.application.port.out.auth.AuthenticationPort;
+import br.ucs.webalgo.middleware.application.port.out.observation.ObservationPort;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedInEvent;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedOutEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -10,28 +14,39 @@ import reactor.core.publisher.Mono;
 public class AuthService implements AuthUseCase {
 
     private final AuthenticationPort authenticationPort;
+    private final ApplicationEventPublisher events;
+    private final ObservationPort observations;
 
-    public AuthService(AuthenticationPort authenticationPort) {
+    public AuthService(AuthenticationPort authenticationPort, ApplicationEventPublisher events,
+                       ObservationPort observations) {
         this.authenticationPort = authenticationPort;
+        this.events = events;
+        this.observations = observations;
     }
 
     @Override
     public Mono<LoginResult> login(LoginCommand command) {
-        return authenticationPort.authenticate(command);
+        return observations.observe("auth", "login", () -> authenticationPort.authenticate(command)
+                .doOnSuccess(r -> {
+                    if (r != null) {
+                        events.publishEvent(new UserLoggedInEvent(r.sessionId(), r.username()));
+                    }
+                }));
     }
 
     @Override
     public Mono<LogoutResult> logout(LogoutCommand command) {
-        return authenticationPort.invalidateSession(command);
+        return observations.observe("auth", "logout", () -> authenticationPort.invalidateSession(command)
+                .doOnSuccess(r -> events.publishEvent(new UserLoggedOutEvent(command.sessionId(), command.username()))));
     }
 
     @Override
     public Mono<SignUpResult> register(SignUpCommand command) {
-        return authenticationPort.register(command);
+        return observations.observe("auth", "register", () -> authenticationPort.register(command));
     }
 
     @Override
     public Mono<ChangePasswordResult> changePassword(ChangePasswordCommand command) {
-        return authenticationPort.changePassword(command);
+        return observations.observe("auth", "change-password", () -> authenticationPort.changePassword(command));
     }
-}
\ No newline at end of file
+}
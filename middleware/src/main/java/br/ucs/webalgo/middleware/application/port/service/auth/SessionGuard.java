@@ -0,0 +1,75 @@
+package br.ucs.webalgo.middleware.application.port.service.auth;
+
+import br.ucs.webalgo.middleware.application.port.out.auth.SessionIndexPort;
+import br.ucs.webalgo.middleware.application.port.out.auth.SessionVerdict;
+import br.ucs.webalgo.middleware.application.port.out.auth.UpstreamProbe;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import java.util.function.Supplier;
+
+// Toda chamada que segue para o legado leva uma sonda: a resposta, classificada pelo mesmo criterio que valida a
+// sessao para os caches, diz se o veredito local acertou. Assim o modo "shadow" mede tanto a sessao barrada a toa
+// (veredito invalido, legado aceitou) quanto a que passaria indevidamente (veredito valido, legado recusou).
+// Resposta que nao passou pelo legado (cache, replica, write-behind) nao confirma nada e entra como "local"; chamada
+// que saiu mas nao trouxe resposta classificavel (timeout, breaker aberto, 5xx) entra como "unanswered".
+@Component
+public class SessionGuard {
+
+    public enum Mode {
+        OFF,
+        SHADOW,
+        ENFORCE
+    }
+
+    private final SessionIndexPort index;
+    private final Mode mode;
+    private final MeterRegistry registry;
+
+    public SessionGuard(SessionIndexPort index, Mode mode, MeterRegistry registry) {
+        this.index = index;
+        this.mode = mode;
+        this.registry = registry;
+    }
+
+    public <T> Mono<T> guard(String sessionId, String username, Supplier<Mono<T>> call) {
+        if (mode == Mode.OFF) {
+            return call.get();
+        }
+
+        SessionVerdict verdict = index.check(sessionId, username);
+        registry.counter("webalgo.session.index.verdicts", "verdict", verdict.name().toLowerCase()).increment();
+
+        if (verdict.isInvalid() && mode == Mode.ENFORCE) {
+            return Mono.error(new InvalidSessionException("Sessão inválida"));
+        }
+
+        return Mono.defer(() -> {
+            UpstreamProbe probe = new UpstreamProbe();
+            return call.get()
+                    .doFinally(signal -> {
+                        if (signal != SignalType.CANCEL) {
+                            shadow(verdict, actual(probe));
+                        }
+                    })
+                    .contextWrite(Context.of(UpstreamProbe.KEY, probe));
+        });
+    }
+
+    private static String actual(UpstreamProbe probe) {
+        return switch (probe.answer()) {
+            case ACCEPTED -> "valid";
+            case REJECTED -> "invalid";
+            case NONE -> probe.called() ? "unanswered" : "local";
+        };
+    }
+
+    private void shadow(SessionVerdict verdict, String actual) {
+        registry.counter("webalgo.session.index.shadow",
+                "verdict", verdict.name().toLowerCase(), "actual", actual).increment();
+    }
+}
@@ -1,22 +1,43 @@
 package br.ucs.webalgo.middleware.application.port.service.problem;
 
 import br.ucs.webalgo.middleware.application.port.in.problem.ProblemUseCase;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchItem;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeBatchResult;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
 import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import br.ucs.webalgo.middleware.application.port.out.observation.ObservationPort;
 import br.ucs.webalgo.middleware.application.port.out.problem.ProblemPort;
+import br.ucs.webalgo.middleware.application.port.service.auth.SessionGuard;
 import br.ucs.webalgo.middleware.shared.util.StringTools;
+import br.ucs.webalgo.middleware.shared.util.UpstreamErrors;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Function;
 
 @Service
 public class ProblemService implements ProblemUseCase {
 
+    public record BatchLimits(int maxCodes, int concurrency) {
+    }
+
     private final ProblemPort client;
+    private final BatchLimits batchLimits;
+    private final SessionGuard sessionGuard;
+    private final ObservationPort observations;
 
-    public ProblemService(ProblemPort client) {
+    public ProblemService(ProblemPort client, BatchLimits batchLimits, SessionGuard sessionGuard,
+                          ObservationPort observations) {
         this.client = client;
+        this.batchLimits = batchLimits;
+        this.sessionGuard = sessionGuard;
+        this.observations = observations;
     }
 
     @Override
@@ -28,11 +49,58 @@ public class ProblemService implements ProblemUseCase {
         if (StringTools.isNullOrEmpty(command.sessionId()) || StringTools.isNullOrEmpty(command.username())) {
             return Mono.error(new IllegalStateException("Cookies de sessão ausentes"));
         }
-        return client.searchProblemByKey(command);
+        return observations.observe("problem", "search-by-key", () ->
+                sessionGuard.guard(command.sessionId(), command.username(), () -> client.searchProblemByKey(command)));
     }
 
     @Override
     public Mono<FetchByCodeResult> fetchProblemData(FetchByCodeCommand command) {
-        return client.fetchProblemData(command);
+        return observations.observe("problem", "fetch", () ->
+                sessionGuard.guard(command.sessionId(), command.username(), () -> client.fetchProblemData(command)));
+    }
+
+    @Override
+    public Mono<FetchByCodeBatchResult> fetchProblemDataBatch(FetchByCodeBatchCommand command) {
+        if (command.codes() == null || command.codes().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Informe ao menos um código"));
+        }
+
+        if (StringTools.isNullOrEmpty(command.sessionId()) || StringTools.isNullOrEmpty(command.username())) {
+            return Mono.error(new IllegalStateException("Cookies de sessão ausentes"));
+        }
+
+        List<String> codes = command.codes().stream().distinct().toList();
+        if (codes.size() > batchLimits.maxCodes()) {
+            return Mono.error(new IllegalArgumentException("Máximo de " + batchLimits.maxCodes() + " códigos por lote"));
+        }
+
+        // Cada codigo passa pelo ProblemPort (e pelo cache na frente dele); falhas viram itens de erro.
+        // Cada item e assinado fora da thread do flatMap, senao adapters bloqueantes buscariam um codigo por vez
+        Function<String, Mono<FetchByCodeBatchItem>> fetch = code -> fetchItem(code, command)
+                .subscribeOn(Schedulers.parallel());
+        int concurrency = Math.max(1, batchLimits.concurrency());
+        Flux<String> source = Flux.fromIterable(codes);
+        Flux<FetchByCodeBatchItem> items = command.ordered()
+                ? source.flatMapSequential(fetch, concurrency)
+                : source.flatMap(fetch, concurrency);
+
+        return Mono.just(new FetchByCodeBatchResult(codes.size(), items));
+    }
+
+    private Mono<FetchByCodeBatchItem> fetchItem(String code, FetchByCodeBatchCommand command) {
+        if (StringTools.isNullOrEmpty(code)) {
+            return Mono.just(FetchByCodeBatchItem.failed(code, "invalid_code", "Código é obrigatório"));
+        }
+
+        FetchByCodeCommand fetch = new FetchByCodeCommand(code, command.sessionId(), command.username());
+        return observations.observe("problem", "batch-item", () ->
+                        sessionGuard.guard(command.sessionId(), command.username(), () -> client.fetchProblemData(fetch)))
+                .map(result -> FetchByCodeBatchItem.ok(code, result))
+                .switchIfEmpty(Mono.fromSupplier(() ->
+                        FetchByCodeBatchItem.failed(code, "not_found", "Problema não encontrado")))
+                .onErrorResume(e -> {
+                    String error = UpstreamErrors.codeOf(e);
+                    return Mono.just(FetchByCodeBatchItem.failed(code, error, UpstreamErrors.messageOf(error)));
+                });
     }
-}
\ No newline at end of file
+}
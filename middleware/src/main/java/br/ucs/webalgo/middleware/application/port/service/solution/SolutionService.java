@@ -2,7 +2,12 @@ package br.ucs.webalgo.middleware.application.port.service.solution;
 
 import br.ucs.webalgo.middleware.application.port.in.solution.SolutionUseCase;
 import br.ucs.webalgo.middleware.application.port.in.solution.dto.*;
+import br.ucs.webalgo.middleware.application.port.out.observation.ObservationPort;
 import br.ucs.webalgo.middleware.application.port.out.solution.SolutionPort;
+import br.ucs.webalgo.middleware.application.port.service.auth.SessionGuard;
+import br.ucs.webalgo.middleware.domain.event.SolutionChangedEvent;
+import br.ucs.webalgo.middleware.shared.util.SolutionCodes;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -10,23 +15,44 @@ import reactor.core.publisher.Mono;
 public class SolutionService implements SolutionUseCase {
 
     private final SolutionPort client;
+    private final ApplicationEventPublisher events;
+    private final SessionGuard sessionGuard;
+    private final SolutionWriteBehind writeBehind;
+    private final ObservationPort observations;
 
-    public SolutionService(SolutionPort client) {
+    public SolutionService(SolutionPort client, ApplicationEventPublisher events, SessionGuard sessionGuard,
+                           SolutionWriteBehind writeBehind, ObservationPort observations) {
         this.client = client;
+        this.events = events;
+        this.sessionGuard = sessionGuard;
+        this.writeBehind = writeBehind;
+        this.observations = observations;
     }
 
     @Override
     public Mono<FetchSolutionResult> fetchSolutionData(FetchSolutionCommand command) {
-        return client.fetchSolutionData(command);
+        return observations.observe("solution", "fetch", () ->
+                sessionGuard.guard(command.sessionId(), command.username(), () -> client.fetchSolutionData(command))
+                        .map(result -> writeBehind.overlay(command, result)));
     }
 
     @Override
     public Mono<CreateSolutionResult> createSolution(CreateSolutionCommand command) {
-        return client.createSolution(command);
+        return observations.observe("solution", "create", () ->
+                sessionGuard.guard(command.sessionId(), command.username(), () -> client.createSolution(command))
+                        .doOnSuccess(r -> events.publishEvent(new SolutionChangedEvent(command.problemCode()))));
     }
 
     @Override
     public Mono<SaveSolutionResult> saveSolution(SaveSolutionCommand command) {
-        return client.saveSolution(command);
+        // Com write-behind o evento so sai quando o legado de fato recebe a gravacao
+        if (writeBehind.enabled()) {
+            return observations.observe("solution", "enqueue", () ->
+                    sessionGuard.guard(command.sessionId(), command.username(), () -> writeBehind.enqueue(command)));
+        }
+        return observations.observe("solution", "save", () ->
+                sessionGuard.guard(command.sessionId(), command.username(), () -> client.saveSolution(command))
+                        .doOnSuccess(r -> events.publishEvent(
+                                new SolutionChangedEvent(SolutionCodes.problemCodeOf(command.problemCode())))));
     }
 }
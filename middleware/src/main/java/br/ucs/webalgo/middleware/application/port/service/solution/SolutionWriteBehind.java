@@ -0,0 +1,225 @@
+package br.ucs.webalgo.middleware.application.port.service.solution;
+
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionResult;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionResult;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionJournalPort;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionPort;
+import br.ucs.webalgo.middleware.domain.event.SolutionChangedEvent;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.shared.util.ApiMessages;
+import br.ucs.webalgo.middleware.shared.util.SessionFingerprints;
+import br.ucs.webalgo.middleware.shared.util.SolutionCodes;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Autosave: a gravacao vai para o diario local e e confirmada na hora; o envio ao legado acontece depois,
+// so com a ultima versao de cada (sessao, solucao). Cada chave tem no maximo um envio agendado ou em andamento.
+// A chave e o fingerprint da sessao, nao o cookie "name" que o cliente escolhe: so quem gravou enxerga a versao
+// pendente. O sessionid para o envio fica so em memoria; o diario guarda apenas o fingerprint.
+@Component
+public class SolutionWriteBehind implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SolutionWriteBehind.class);
+
+    static final String QUEUED = "pendente";
+    static final String FAILED = "falhou";
+
+    public record Settings(boolean enabled, Duration flushDelay, int concurrency, Duration retryDelay,
+                           int maxAttempts) {
+    }
+
+    record Key(String owner, String solutionCode) {
+    }
+
+    private final SolutionPort client;
+    private final SolutionJournalPort journal;
+    private final ApplicationEventPublisher events;
+    private final Settings settings;
+    private final MeterRegistry registry;
+    // Chave presente = envio agendado ou em andamento; valor = tentativas ja feitas
+    private final Map<Key, Integer> scheduled = new ConcurrentHashMap<>();
+    // Sessionid com que a versao pendente de cada chave sera enviada
+    private final Map<Key, String> sessions = new ConcurrentHashMap<>();
+    private final Sinks.Many<Scheduled> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable flusher;
+
+    private record Scheduled(Key key, Duration delay) {
+    }
+
+    public SolutionWriteBehind(SolutionPort client, SolutionJournalPort journal, ApplicationEventPublisher events,
+                               Settings settings, MeterRegistry registry) {
+        this.client = client;
+        this.journal = journal;
+        this.events = events;
+        this.settings = settings;
+        this.registry = registry;
+    }
+
+    public boolean enabled() {
+        return settings.enabled();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!settings.enabled()) {
+            return;
+        }
+
+        Gauge.builder("webalgo.writebehind.pending", journal, SolutionJournalPort::pendingCount).register(registry);
+        Gauge.builder("webalgo.writebehind.dead", journal, SolutionJournalPort::deadCount).register(registry);
+
+        flusher = queue.asFlux()
+                .flatMap(s -> Mono.delay(s.delay()).thenReturn(s.key()), Integer.MAX_VALUE)
+                .flatMap(this::flush, Math.max(1, settings.concurrency()))
+                .subscribe();
+
+        // Gravacoes que nao chegaram ao legado antes de um crash/restart: sem o sessionid no disco nao ha como
+        // envia-las, e reenviar mais tarde poderia sobrescrever o que o usuario gravou por outra replica enquanto
+        // esta estava fora. Ficam visiveis como "falhou" para quem gravou ate a proxima gravacao
+        var replayed = journal.replay();
+        replayed.forEach(journal::deadLetter);
+        if (!replayed.isEmpty()) {
+            log.warn("Diario de gravacoes: {} solucoes pendentes de antes do restart marcadas como falha", replayed.size());
+        }
+    }
+
+    public Mono<SaveSolutionResult> enqueue(SaveSolutionCommand command) {
+        if (StringTools.isNullOrEmpty(command.sessionId())) {
+            return Mono.error(new InvalidSessionException("Sessão inválida"));
+        }
+        Key key = keyOf(command);
+        return Mono.fromCallable(() -> journal.append(key.owner(), withSession(command, null)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(entry -> {
+                    sessions.put(key, command.sessionId());
+                    boolean coalesced = !schedule(key, settings.flushDelay());
+                    registry.counter("webalgo.writebehind.saves", "outcome", coalesced ? "coalesced" : "enqueued").increment();
+                    return new SaveSolutionResult(QUEUED);
+                });
+    }
+
+    // Leitura enxerga a versao ainda nao enviada, inclusive a que o legado recusou (ate o usuario gravar de novo).
+    // So a mesma sessao (e o mesmo usuario) que gravou ve a versao pendente
+    public FetchSolutionResult overlay(FetchSolutionCommand command, FetchSolutionResult result) {
+        if (!settings.enabled() || StringTools.isNullOrEmpty(command.sessionId())) {
+            return result;
+        }
+        return journal.pending(SessionFingerprints.of(command.sessionId()), command.code())
+                .filter(entry -> Objects.equals(entry.command().username(), command.username()))
+                .map(entry -> new FetchSolutionResult(entry.command().cost(), entry.command().algorithm(),
+                        result == null ? null : result.ioList(), entry.dead() ? FAILED : QUEUED))
+                .orElse(result);
+    }
+
+    private boolean schedule(Key key, Duration delay) {
+        if (scheduled.putIfAbsent(key, 0) != null) {
+            return false;
+        }
+        queue.emitNext(new Scheduled(key, delay), Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+        return true;
+    }
+
+    private Mono<Void> flush(Key key) {
+        var pending = journal.pending(key.owner(), key.solutionCode()).filter(entry -> !entry.dead());
+        if (pending.isEmpty()) {
+            release(key);
+            return Mono.empty();
+        }
+
+        SolutionJournalPort.Entry entry = pending.get();
+        String sessionId = sessions.get(key);
+        if (sessionId == null) {
+            journal.deadLetter(entry);
+            release(key);
+            return Mono.empty();
+        }
+        int attempt = scheduled.getOrDefault(key, 0) + 1;
+        AtomicBoolean retrying = new AtomicBoolean();
+
+        return client.saveSolution(withSession(entry.command(), sessionId))
+                .publishOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Legado nao respondeu a gravacao")))
+                .flatMap(r -> ApiMessages.isSuccess(r.status())
+                        ? Mono.just(r)
+                        : Mono.error(new IllegalStateException("Legado recusou a gravacao: " + r.status())))
+                .doOnNext(r -> {
+                    journal.acknowledge(entry);
+                    registry.counter("webalgo.writebehind.flushes", "outcome", "success").increment();
+                    events.publishEvent(new SolutionChangedEvent(SolutionCodes.problemCodeOf(key.solutionCode())));
+                })
+                .then()
+                .onErrorResume(e -> {
+                    if (e instanceof InvalidSessionException || e instanceof IllegalArgumentException
+                            || attempt >= settings.maxAttempts()) {
+                        log.error("Gravacao de {} para {} abandonada apos {} tentativas: {}",
+                                key.solutionCode(), entry.command().username(), attempt, e.getMessage());
+                        journal.deadLetter(entry);
+                        registry.counter("webalgo.writebehind.flushes", "outcome", "dead_letter").increment();
+                        return Mono.empty();
+                    }
+                    // A chave continua reservada: gravacoes novas entram no diario e saem no proximo envio
+                    registry.counter("webalgo.writebehind.flushes", "outcome", "retry").increment();
+                    retrying.set(true);
+                    scheduled.put(key, attempt);
+                    queue.emitNext(new Scheduled(key, settings.retryDelay()),
+                            Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+                    return Mono.empty();
+                })
+                .doFinally(s -> {
+                    if (!retrying.get()) {
+                        release(key);
+                    }
+                });
+    }
+
+    // Libera a chave; se chegou versao nova durante o envio, ela ganha o proprio agendamento.
+    // Sem nada pendente o sessionid sai da memoria; o enqueue grava no diario antes de registrar a sessao,
+    // entao um enqueue concorrente ou ja aparece aqui como pendente ou registra a sessao depois da remocao
+    private void release(Key key) {
+        scheduled.remove(key);
+        sessions.computeIfPresent(key, (k, sessionId) -> live(key) ? sessionId : null);
+        if (live(key)) {
+            schedule(key, settings.flushDelay());
+        }
+    }
+
+    private boolean live(Key key) {
+        return journal.pending(key.owner(), key.solutionCode()).filter(entry -> !entry.dead()).isPresent();
+    }
+
+    private static Key keyOf(SaveSolutionCommand command) {
+        return new Key(SessionFingerprints.of(command.sessionId()), command.problemCode());
+    }
+
+    private static SaveSolutionCommand withSession(SaveSolutionCommand command, String sessionId) {
+        return new SaveSolutionCommand(command.algorithm(), command.problemCode(), command.cost(), command.answer(),
+                sessionId, command.username());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.dispose();
+        }
+    }
+}
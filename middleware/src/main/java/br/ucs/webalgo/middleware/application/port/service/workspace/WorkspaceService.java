@@ -0,0 +1,107 @@
+package br.ucs.webalgo.middleware.application.port.service.workspace;
+
+import br.ucs.webalgo.middleware.application.port.in.problem.ProblemUseCase;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.solution.SolutionUseCase;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.FetchSolutionResult;
+import br.ucs.webalgo.middleware.application.port.in.workspace.WorkspaceUseCase;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceCommand;
+import br.ucs.webalgo.middleware.application.port.in.workspace.dto.OpenWorkspaceResult;
+import br.ucs.webalgo.middleware.application.port.out.observation.ObservationPort;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.shared.util.SolutionCodes;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import br.ucs.webalgo.middleware.shared.util.UpstreamErrors;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@Service
+public class WorkspaceService implements WorkspaceUseCase {
+
+    private final ProblemUseCase problemUseCase;
+    private final SolutionUseCase solutionUseCase;
+    private final ObservationPort observations;
+
+    public WorkspaceService(ProblemUseCase problemUseCase, SolutionUseCase solutionUseCase,
+                            ObservationPort observations) {
+        this.problemUseCase = problemUseCase;
+        this.solutionUseCase = solutionUseCase;
+        this.observations = observations;
+    }
+
+    @Override
+    public Mono<OpenWorkspaceResult> openWorkspace(OpenWorkspaceCommand command) {
+        if (StringTools.isNullOrEmpty(command.problemCode())) {
+            return Mono.error(new IllegalArgumentException("Código do problema é obrigatório"));
+        }
+
+        if (StringTools.isNullOrEmpty(command.sessionId()) || StringTools.isNullOrEmpty(command.username())) {
+            return Mono.error(new IllegalStateException("Cookies de sessão ausentes"));
+        }
+
+        String solutionCode = command.solutionCode();
+        if (!StringTools.isNullOrEmpty(solutionCode)
+                && !command.problemCode().equals(SolutionCodes.problemCodeOf(solutionCode))) {
+            return Mono.error(new IllegalArgumentException("Solução não pertence ao problema"));
+        }
+
+        return observations.observe("workspace", "open", () -> open(command, solutionCode));
+    }
+
+    private Mono<OpenWorkspaceResult> open(OpenWorkspaceCommand command, String solutionCode) {
+        Mono<Side<FetchByCodeResult>> problem = Side.of(problemUseCase.fetchProblemData(
+                new FetchByCodeCommand(command.problemCode(), command.sessionId(), command.username())));
+
+        // Solucao informada: busca em paralelo com o problema (assinado em outra thread, para que um adapter
+        // bloqueante nao segure a busca da solucao ate o problema voltar)
+        if (!StringTools.isNullOrEmpty(solutionCode)) {
+            return Mono.zip(problem.subscribeOn(Schedulers.parallel()), fetchSolution(solutionCode, command))
+                    .map(t -> result(command, t.getT1(), solutionCode, t.getT2()));
+        }
+
+        // Sem solucao: a primeira so e conhecida depois dos detalhes do problema, ainda na mesma ida do navegador
+        return problem.flatMap(p -> {
+            String first = firstSolutionOf(p.value());
+            if (first == null) {
+                return Mono.just(result(command, p, null, Side.<FetchSolutionResult>empty()));
+            }
+            return fetchSolution(first, command).map(s -> result(command, p, first, s));
+        });
+    }
+
+    private Mono<Side<FetchSolutionResult>> fetchSolution(String solutionCode, OpenWorkspaceCommand command) {
+        return Side.of(solutionUseCase.fetchSolutionData(
+                new FetchSolutionCommand(solutionCode, command.sessionId(), command.username())));
+    }
+
+    private static String firstSolutionOf(FetchByCodeResult problem) {
+        if (problem == null) return null;
+        List<String> solutions = problem.solutions();
+        return solutions == null || solutions.isEmpty() ? null : solutions.get(0);
+    }
+
+    private static OpenWorkspaceResult result(OpenWorkspaceCommand command, Side<FetchByCodeResult> problem,
+                                              String solutionCode, Side<FetchSolutionResult> solution) {
+        return new OpenWorkspaceResult(command.problemCode(), problem.value(), problem.error(),
+                solutionCode, solution.value(), solution.error());
+    }
+
+    private record Side<T>(T value, String error) {
+
+        static <T> Mono<Side<T>> of(Mono<T> source) {
+            return source.map(v -> new Side<T>(v, null))
+                    .defaultIfEmpty(new Side<>(null, "not_found"))
+                    .onErrorResume(e -> !(e instanceof InvalidSessionException),
+                            e -> Mono.just(new Side<>(null, UpstreamErrors.codeOf(e))));
+        }
+
+        static <T> Side<T> empty() {
+            return new Side<>(null, null);
+        }
+    }
+}
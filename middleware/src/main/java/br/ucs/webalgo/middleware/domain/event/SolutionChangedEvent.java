@@ -0,0 +1,4 @@
+package br.ucs.webalgo.middleware.domain.event;
+
+public record SolutionChangedEvent(String problemCode) {
+}
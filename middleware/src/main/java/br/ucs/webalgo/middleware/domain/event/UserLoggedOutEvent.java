@@ -0,0 +1,4 @@
+package br.ucs.webalgo.middleware.domain.event;
+
+public record UserLoggedOutEvent(String sessionId, String username) {
+}
@@ -0,0 +1,7 @@
+package br.ucs.webalgo.middleware.domain.exception;
+
+public class InvalidSessionException extends RuntimeException {
+    public InvalidSessionException(String message) {
+        super(message);
+    }
+}
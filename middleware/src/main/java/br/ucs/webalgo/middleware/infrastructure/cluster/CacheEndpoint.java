@@ -0,0 +1,82 @@
+package br.ucs.webalgo.middleware.infrastructure.cluster;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.cluster.CacheInvalidation;
+import br.ucs.webalgo.middleware.adapter.out.cache.cluster.PeerCacheCoherence;
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.CachingProblemPort;
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.ProblemDetailsCache;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// /actuator/cache (porta de gerenciamento 8081), sempre com "Authorization: Bearer <token do cluster>":
+//   GET    -> tamanho dos caches locais (?limit=100 chaves por cache); detalhes so contados por codigo, sem sessao
+//   POST   -> invalidacao vinda de outra instancia ({"origin", "problemCodes": "S001,S002", "purge"})
+//   DELETE -> limpa os caches desta instancia e de todas as outras da lista de peers
+@Component
+@Endpoint(id = "cache")
+public class CacheEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final PeerCacheCoherence coherence;
+    private final ProblemDetailsCache details;
+    private final CachingProblemPort problems;
+
+    public CacheEndpoint(PeerCacheCoherence coherence, ProblemDetailsCache details, CachingProblemPort problems) {
+        this.coherence = coherence;
+        this.details = details;
+        this.problems = problems;
+    }
+
+    @ReadOperation
+    public Map<String, Object> contents(@Nullable Integer limit) {
+        int max = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+
+        Map<String, SearchByKeyResult> catalog = problems.catalogEntries();
+        Map<String, Object> catalogKeys = new LinkedHashMap<>();
+        catalog.entrySet().stream().limit(max).forEach(e ->
+                catalogKeys.put(e.getKey(), e.getValue().codes() == null ? 0 : e.getValue().codes().size()));
+
+        Map<ProblemDetailsCache.Key, ?> problemDetails = details.asMap();
+        Map<String, Long> sessionsPerCode = problemDetails.keySet().stream()
+                .collect(Collectors.groupingBy(ProblemDetailsCache.Key::code, TreeMap::new, Collectors.counting()));
+        Map<String, Long> detailCodes = new LinkedHashMap<>();
+        sessionsPerCode.entrySet().stream().limit(max).forEach(e -> detailCodes.put(e.getKey(), e.getValue()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("node", coherence.nodeId());
+        result.put("peers", coherence.active() ? coherence.peers() : List.of());
+        result.put("caches", Map.of(
+                "catalog", Map.of("size", catalog.size(), "problemsPerKey", catalogKeys),
+                "problem-details", Map.of("size", problemDetails.size(), "sessionsPerCode", detailCodes)));
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> invalidate(String origin, @Nullable String problemCodes, @Nullable Boolean purge) {
+        List<String> codes = problemCodes == null ? List.of() : Arrays.stream(problemCodes.split(","))
+                .map(String::trim)
+                .filter(c -> !c.isEmpty())
+                .toList();
+        coherence.apply(new CacheInvalidation(origin, codes, Boolean.TRUE.equals(purge)));
+        return Map.of("node", coherence.nodeId());
+    }
+
+    @DeleteOperation
+    public Map<String, Object> purge() {
+        Map<String, String> peers = coherence.purgeCluster().block(Duration.ofSeconds(30));
+        return Map.of("node", coherence.nodeId(), "peers", peers == null ? Map.of() : peers);
+    }
+}
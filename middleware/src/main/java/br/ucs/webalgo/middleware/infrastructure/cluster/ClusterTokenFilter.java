@@ -0,0 +1,39 @@
+package br.ucs.webalgo.middleware.infrastructure.cluster;
+
+import br.ucs.webalgo.middleware.infrastructure.config.ClusterProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class ClusterTokenFilter extends OncePerRequestFilter {
+
+    private final ClusterProperties cluster;
+
+    public ClusterTokenFilter(ClusterProperties cluster) {
+        this.cluster = cluster;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !ClusterTokenFilterConfig.guards(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!cluster.acceptsAuthorization(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(ClusterTokenFilterConfig.FORBIDDEN_BODY);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
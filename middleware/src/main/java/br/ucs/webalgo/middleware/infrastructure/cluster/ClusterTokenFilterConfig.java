@@ -0,0 +1,42 @@
+package br.ucs.webalgo.middleware.infrastructure.cluster;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.cluster.PeerCacheCoherence;
+import br.ucs.webalgo.middleware.adapter.out.cache.cluster.ProblemOwnership;
+import br.ucs.webalgo.middleware.infrastructure.config.ClusterProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+// Token do cluster so pelo cabecalho "Authorization: Bearer <token>": na query string ele iria parar em access log,
+// log de proxy e traces. Os endpoints ficam na porta de gerenciamento, que tem contexto proprio e nao enxerga os
+// filtros do contexto principal; por isso esta classe entra pelo ManagementContextConfiguration.imports e nao e
+// @Configuration (o component scan a colocaria tambem no contexto principal)
+public class ClusterTokenFilterConfig {
+
+    static final String FORBIDDEN_BODY = "{\"message\":\"Token de cluster invalido\"}";
+
+    private static final List<String> GUARDED_PATHS = List.of(PeerCacheCoherence.PATH, ProblemOwnership.PATH);
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<ClusterTokenFilter> clusterTokenFilter(ClusterProperties cluster) {
+        FilterRegistrationBean<ClusterTokenFilter> registration = new FilterRegistrationBean<>(new ClusterTokenFilter(cluster));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ClusterTokenWebFilter clusterTokenWebFilter(ClusterProperties cluster) {
+        return new ClusterTokenWebFilter(cluster);
+    }
+
+    static boolean guards(String path) {
+        return GUARDED_PATHS.stream().anyMatch(p -> path.equals(p) || path.startsWith(p + "/"));
+    }
+}
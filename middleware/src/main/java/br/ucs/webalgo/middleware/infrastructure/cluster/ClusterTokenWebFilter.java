@@ -0,0 +1,38 @@
+package br.ucs.webalgo.middleware.infrastructure.cluster;
+
+import br.ucs.webalgo.middleware.infrastructure.config.ClusterProperties;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+public class ClusterTokenWebFilter implements WebFilter {
+
+    private final ClusterProperties cluster;
+
+    public ClusterTokenWebFilter(ClusterProperties cluster) {
+        this.cluster = cluster;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!ClusterTokenFilterConfig.guards(exchange.getRequest().getPath().value())
+                || cluster.acceptsAuthorization(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory()
+                .wrap(ClusterTokenFilterConfig.FORBIDDEN_BODY.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,64 @@
+package br.ucs.webalgo.middleware.infrastructure.cluster;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.cluster.ProblemOwnership;
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.CachingProblemPort;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.infrastructure.config.ShardingProperties;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// /actuator/shard (porta de gerenciamento 8081), sempre com "Authorization: Bearer <token do cluster>":
+//   GET          -> anel atual (membros saudaveis e estado dos peers)
+//   GET /{code}  -> dono do codigo
+//   POST         -> busca interna feita por outra instancia ({"code", "sessionId", "username"})
+@Component
+@Endpoint(id = "shard")
+public class ShardEndpoint {
+
+    private final ProblemOwnership ownership;
+    private final CachingProblemPort problems;
+    private final ShardingProperties properties;
+
+    public ShardEndpoint(ProblemOwnership ownership, CachingProblemPort problems, ShardingProperties properties) {
+        this.ownership = ownership;
+        this.problems = problems;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return ownership.status();
+    }
+
+    @ReadOperation
+    public Map<String, Object> owner(@Selector String code) {
+        return Map.of("code", code, "owner", String.valueOf(ownership.ownerOf(code)));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> fetch(String code, String sessionId, String username) {
+        try {
+            FetchByCodeResult result = problems.fetchAsOwner(new FetchByCodeCommand(code, sessionId, username))
+                    .block(properties.fetchTimeout());
+            if (result == null) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            return new WebEndpointResponse<>(result);
+        } catch (InvalidSessionException e) {
+            return new WebEndpointResponse<>(Map.of("message", e.getMessage()), HttpStatus.UNAUTHORIZED.value());
+        } catch (RuntimeException e) {
+            // Quem perguntou cai para o legado direto; o detalhe da falha nao sai desta instancia
+            return new WebEndpointResponse<>(Map.of("message", "Falha ao buscar o problema no legado"),
+                    HttpStatus.BAD_GATEWAY.value());
+        }
+    }
+}
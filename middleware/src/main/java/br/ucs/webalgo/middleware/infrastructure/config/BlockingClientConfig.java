@@ -0,0 +1,73 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import br.ucs.webalgo.middleware.infrastructure.metrics.LegacyClientMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.net.ssl.SSLContext;
+import java.net.http.HttpClient;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Alternativa bloqueante aos adapters reativos: controllers sincronos e chamadas ao legado na propria virtual thread
+// da requisicao. So funciona com o Tomcat em virtual threads (profile "virtual"); fora disso a subida falha
+@Configuration
+@ConditionalOnProperty(name = "web-algo.client.mode", havingValue = "blocking")
+public class BlockingClientConfig {
+
+    // Um unico executor de virtual threads para o scheduler dos adapters e o HttpClient. Quem o encerra no shutdown
+    // e o dispose do Scheduler
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BlockingClientConfig(Environment environment) {
+        if (!Threading.VIRTUAL.isActive(environment)
+                || "reactive".equalsIgnoreCase(environment.getProperty("spring.main.web-application-type"))) {
+            throw new IllegalStateException("web-algo.client.mode=blocking exige o servidor servlet com "
+                    + "spring.threads.virtual.enabled=true (profile virtual)");
+        }
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler legacyBlockingScheduler() {
+        return Schedulers.fromExecutorService(virtualThreads, "legacy-vt");
+    }
+
+    @Bean
+    public RestClient legacyRestClient(@Value("${webAlgo.url}") String baseUrl,
+                                       LegacyClientMetrics legacyClientMetrics,
+                                       ObservationRegistry observationRegistry) throws GeneralSecurityException {
+        SSLContext ssl = SSLContext.getInstance("TLS");
+        ssl.init(null, InsecureTrustManagerFactory.INSTANCE.getTrustManagers(), new SecureRandom()); //DEV SEM SSL
+
+        HttpClient http = HttpClient.newBuilder()
+                .sslContext(ssl)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(virtualThreads)
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(http);
+        factory.setReadTimeout(Duration.ofSeconds(10));
+
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(factory)
+                .observationRegistry(observationRegistry)
+                .defaultHeader("Referer", baseUrl + "/")
+                .defaultHeader("X-Requested-With", "XMLHttpRequest")
+                .requestInterceptor(legacyClientMetrics)
+                .build();
+    }
+}
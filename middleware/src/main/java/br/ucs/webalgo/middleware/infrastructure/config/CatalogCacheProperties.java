@@ -0,0 +1,13 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.cache.catalog")
+public record CatalogCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60s") Duration ttl,
+        @DefaultValue("10m") Duration maxStale) {
+}
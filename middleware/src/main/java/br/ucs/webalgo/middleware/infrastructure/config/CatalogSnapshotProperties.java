@@ -0,0 +1,17 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.cache.snapshot")
+public record CatalogSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/catalog.snapshot") String path,
+        @DefaultValue("5m") Duration interval,
+        @DefaultValue("24h") Duration maxAge,
+        @DefaultValue("true") boolean revalidate,
+        @DefaultValue("false") boolean details,
+        @DefaultValue("data/problem-details.snapshot") String detailsPath) {
+}
@@ -0,0 +1,46 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "web-algo.cluster")
+public record ClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("local") String nodeId,
+        @DefaultValue List<String> peers,
+        @DefaultValue("") String token,
+        @DefaultValue("50ms") Duration batchDelay,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue("2") int retries) {
+
+    private static final String BEARER = "Bearer ";
+
+    public ClusterProperties {
+        if (enabled && (token == null || token.isBlank())) {
+            throw new IllegalStateException("web-algo.cluster.token (CLUSTER_TOKEN) e obrigatorio com o cluster ligado");
+        }
+    }
+
+    // Sem token configurado nada e aceito; com token, comparacao em tempo constante
+    public boolean accepts(String candidate) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        return candidate != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8), candidate.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean acceptsAuthorization(String header) {
+        return header != null && header.startsWith(BEARER) && accepts(header.substring(BEARER.length()));
+    }
+
+    public String authorization() {
+        return BEARER + token;
+    }
+}
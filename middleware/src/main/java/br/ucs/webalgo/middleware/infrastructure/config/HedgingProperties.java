@@ -0,0 +1,15 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.hedging")
+public record HedgingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5") double budgetPercent,
+        @DefaultValue("10") int maxBurst,
+        @DefaultValue("50ms") Duration minDelay,
+        @DefaultValue("20") long minSamples) {
+}
@@ -0,0 +1,17 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.inbound-limit")
+public record InboundLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int initialLimit,
+        @DefaultValue("20") int minLimit,
+        @DefaultValue("1000") int maxLimit,
+        @DefaultValue("true") boolean prioritize,
+        @DefaultValue("0.6") double criticalShare,
+        @DefaultValue("1s") Duration retryAfter) {
+}
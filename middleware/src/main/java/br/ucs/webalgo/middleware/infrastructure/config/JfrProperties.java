@@ -0,0 +1,19 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.jfr")
+public record JfrProperties(
+        @DefaultValue("false") boolean continuous,
+        @DefaultValue("default") String continuousSettings,
+        @DefaultValue("30m") Duration continuousMaxAge,
+        @DefaultValue("250MB") DataSize continuousMaxSize,
+        @DefaultValue("profile") String onDemandSettings,
+        @DefaultValue("10m") Duration onDemandMaxDuration,
+        @DefaultValue("100MB") DataSize onDemandMaxSize,
+        @DefaultValue("data/jfr") String dumpDirectory) {
+}
@@ -0,0 +1,13 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "web-algo.payload")
+public record LegacyPayloadProperties(
+        @DefaultValue("1MB") DataSize defaultMaxSize,
+        Map<String, DataSize> maxSize) {
+}
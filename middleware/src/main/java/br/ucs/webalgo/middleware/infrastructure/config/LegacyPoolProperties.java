@@ -0,0 +1,18 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.pool")
+public record LegacyPoolProperties(
+        @DefaultValue("legacy") String name,
+        @DefaultValue("256") int maxConnections,
+        @DefaultValue("1024") int pendingAcquireMaxCount,
+        @DefaultValue("5s") Duration pendingAcquireTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("5m") Duration maxLifeTime,
+        @DefaultValue("30s") Duration evictionInterval,
+        @DefaultValue("true") boolean metrics) {
+}
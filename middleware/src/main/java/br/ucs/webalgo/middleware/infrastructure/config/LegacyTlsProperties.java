@@ -0,0 +1,13 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.tls")
+public record LegacyTlsProperties(
+        @DefaultValue("1024") long sessionCacheSize,
+        @DefaultValue("1h") Duration sessionTimeout,
+        @DefaultValue("10s") Duration handshakeTimeout) {
+}
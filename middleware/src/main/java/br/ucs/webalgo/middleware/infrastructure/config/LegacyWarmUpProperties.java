@@ -0,0 +1,14 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.warmup")
+public record LegacyWarmUpProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("16") int connections,
+        @DefaultValue("15s") Duration timeout,
+        @DefaultValue("250ms") Duration fastRequestThreshold) {
+}
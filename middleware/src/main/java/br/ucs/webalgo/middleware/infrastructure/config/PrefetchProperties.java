@@ -0,0 +1,20 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "web-algo.prefetch")
+public record PrefetchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"S", "C", "I", "V", "M", "F", "R", "G"}) List<String> keys,
+        @DefaultValue("S00000050") List<String> hotCodes,
+        @DefaultValue("20") int ratePerSecond,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("10s") Duration timeout,
+        @DefaultValue("false") boolean warmUpOnStartup,
+        String serviceUsername,
+        String servicePassword) {
+}
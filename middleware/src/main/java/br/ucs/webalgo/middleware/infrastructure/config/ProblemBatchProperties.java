@@ -0,0 +1,10 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "web-algo.problem-batch")
+public record ProblemBatchProperties(
+        @DefaultValue("50") int maxCodes,
+        @DefaultValue("8") int concurrency) {
+}
@@ -0,0 +1,17 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.retry")
+public record RetryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2") int maxRetries,
+        @DefaultValue("100ms") Duration minBackoff,
+        @DefaultValue("1s") Duration maxBackoff,
+        @DefaultValue("0.5") double jitter,
+        @DefaultValue("0.1") double budgetRatio,
+        @DefaultValue("10") int budgetMaxTokens) {
+}
@@ -0,0 +1,28 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import br.ucs.webalgo.middleware.application.port.service.auth.SessionGuard;
+import br.ucs.webalgo.middleware.application.port.service.problem.ProblemService;
+import br.ucs.webalgo.middleware.application.port.service.solution.SolutionWriteBehind;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Os services recebem valores simples; os @ConfigurationProperties ficam so na infraestrutura
+@Configuration
+public class ServiceSettingsConfig {
+
+    @Bean
+    public ProblemService.BatchLimits problemBatchLimits(ProblemBatchProperties properties) {
+        return new ProblemService.BatchLimits(properties.maxCodes(), properties.concurrency());
+    }
+
+    @Bean
+    public SessionGuard.Mode sessionGuardMode(SessionIndexProperties properties) {
+        return properties.mode();
+    }
+
+    @Bean
+    public SolutionWriteBehind.Settings writeBehindSettings(WriteBehindProperties properties) {
+        return new SolutionWriteBehind.Settings(properties.enabled(), properties.flushDelay(), properties.concurrency(),
+                properties.retryDelay(), properties.maxAttempts());
+    }
+}
@@ -0,0 +1,17 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import br.ucs.webalgo.middleware.application.port.service.auth.SessionGuard;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.session-index")
+public record SessionIndexProperties(
+        @DefaultValue("shadow") SessionGuard.Mode mode,
+        @DefaultValue("100000") long maxSize,
+        @DefaultValue("12h") Duration ttl,
+        @DefaultValue("12h") Duration tombstoneTtl,
+        @DefaultValue("[A-Za-z0-9_-]{1,128}") String idPattern,
+        @DefaultValue("5m") Duration validatedTtl) {
+}
@@ -0,0 +1,18 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// "self" precisa ser a mesma URL que as outras instancias usam em web-algo.cluster.peers,
+// senao os aneis montados em cada instancia divergem
+@ConfigurationProperties(prefix = "web-algo.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("") String self,
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue("5s") Duration healthInterval,
+        @DefaultValue("1s") Duration healthTimeout,
+        @DefaultValue("3s") Duration fetchTimeout) {
+}
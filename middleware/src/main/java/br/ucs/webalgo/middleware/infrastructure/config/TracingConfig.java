@@ -0,0 +1,34 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import br.ucs.webalgo.middleware.infrastructure.tracing.InMemorySpanExporter;
+import br.ucs.webalgo.middleware.infrastructure.tracing.JsonFileSpanExporter;
+import br.ucs.webalgo.middleware.infrastructure.tracing.TracesEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// Exportadores locais de spans; o Spring Boot registra todo SpanExporter no BatchSpanProcessor do OpenTelemetry
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "web-algo.tracing.exporter", havingValue = "memory", matchIfMissing = true)
+    public InMemorySpanExporter inMemorySpanExporter(TracingProperties properties) {
+        return new InMemorySpanExporter(properties.memoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "web-algo.tracing.exporter", havingValue = "memory", matchIfMissing = true)
+    public TracesEndpoint tracesEndpoint(InMemorySpanExporter inMemorySpanExporter) {
+        return new TracesEndpoint(inMemorySpanExporter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "web-algo.tracing.exporter", havingValue = "file")
+    public JsonFileSpanExporter jsonFileSpanExporter(TracingProperties properties, ObjectMapper mapper) {
+        return new JsonFileSpanExporter(mapper, Path.of(properties.filePath()), properties.fileMaxSize().toBytes());
+    }
+}
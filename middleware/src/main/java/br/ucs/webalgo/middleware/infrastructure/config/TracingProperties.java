@@ -0,0 +1,18 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "web-algo.tracing")
+public record TracingProperties(
+        @DefaultValue("memory") Exporter exporter,
+        @DefaultValue("2000") int memoryCapacity,
+        @DefaultValue("data/traces/spans.jsonl") String filePath,
+        @DefaultValue("50MB") DataSize fileMaxSize) {
+
+    // OTLP nao aparece aqui: o exportador do Spring Boot liga sozinho quando management.otlp.tracing.endpoint e definido
+    public enum Exporter {
+        NONE, MEMORY, FILE
+    }
+}
@@ -1,15 +1,20 @@
 package br.ucs.webalgo.middleware.infrastructure.config;
 
+import br.ucs.webalgo.middleware.infrastructure.metrics.LegacyClientMetrics;
+import br.ucs.webalgo.middleware.infrastructure.warmup.FirstFastRequestTracker;
+import io.micrometer.observation.ObservationRegistry;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import javax.net.ssl.SSLException;
 import java.time.Duration;
@@ -17,23 +22,58 @@ import java.time.Duration;
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider legacyConnectionProvider(LegacyPoolProperties pool) {
+        return ConnectionProvider.builder(pool.name())
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictionInterval())
+                .metrics(pool.metrics())
+                .build();
+    }
+
     @Bean
-    public WebClient legacyClient(@Value("${webAlgo.url}") String baseUrl) throws SSLException {
+    public HttpClient legacyHttpClient(ConnectionProvider legacyConnectionProvider,
+                                       ReactorResourceFactory resourceFactory,
+                                       LegacyTlsProperties tls,
+                                       LegacyClientMetrics legacyClientMetrics) throws SSLException {
+        // Cache de sessoes TLS: reconexoes ao mesmo host retomam a sessao em vez de um handshake completo
         SslContext sslCtx = SslContextBuilder.forClient()
                 .trustManager(InsecureTrustManagerFactory.INSTANCE) //DEV SEM SSL
+                .sessionCacheSize(tls.sessionCacheSize())
+                .sessionTimeout(tls.sessionTimeout().toSeconds())
                 .build();
 
-        HttpClient http = HttpClient.create()
-                .secure(ssl -> ssl.sslContext(sslCtx))
-                .responseTimeout(Duration.ofSeconds(10));
+        return HttpClient.create(legacyConnectionProvider)
+                .runOn(resourceFactory.getLoopResources())
+                .secure(ssl -> ssl.sslContext(sslCtx).handshakeTimeout(tls.handshakeTimeout()))
+                .responseTimeout(Duration.ofSeconds(10))
+                .doOnRequest(legacyClientMetrics::requestPrepared);
+    }
 
+    @Bean
+    public WebClient legacyClient(@Value("${webAlgo.url}") String baseUrl,
+                                  HttpClient legacyHttpClient,
+                                  FirstFastRequestTracker firstFastRequestTracker,
+                                  LegacyClientMetrics legacyClientMetrics,
+                                  LegacyPayloadProperties payloadProperties,
+                                  ObservationRegistry observationRegistry) {
         return WebClient.builder()
                 .baseUrl(baseUrl)
-                .clientConnector(new ReactorClientHttpConnector(http))
+                // Span de cliente por chamada, com traceparent propagado ao legado
+                .observationRegistry(observationRegistry)
+                .clientConnector(new ReactorClientHttpConnector(legacyHttpClient))
                 .defaultHeader("Referer", baseUrl + "/")
                 .defaultHeader("X-Requested-With", "XMLHttpRequest")
+                .filter(firstFastRequestTracker)
+                // Ultimo filtro, o mais proximo da chamada HTTP real
+                .filter(legacyClientMetrics)
                 .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(c -> c.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+                        // Leituras usam LegacyPayloads com limite por endpoint; os codecs so veem auth e corpos de erro
+                        .codecs(c -> c.defaultCodecs().maxInMemorySize((int) payloadProperties.defaultMaxSize().toBytes()))
                         .build())
                 .build();
     }
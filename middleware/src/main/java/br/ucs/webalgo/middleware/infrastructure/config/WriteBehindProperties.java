@@ -0,0 +1,19 @@
+package br.ucs.webalgo.middleware.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "web-algo.write-behind")
+public record WriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/solution-journal.log") String path,
+        @DefaultValue("true") boolean fsync,
+        @DefaultValue("8MB") DataSize compactThreshold,
+        @DefaultValue("2s") Duration flushDelay,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("5s") Duration retryDelay,
+        @DefaultValue("5") int maxAttempts) {
+}
@@ -0,0 +1,32 @@
+package br.ucs.webalgo.middleware.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("webalgo.CacheAccess")
+@Label("Acesso a cache")
+@Category({"Web-Algo", "Cache"})
+@StackTrace(false)
+public class CacheAccessEvent extends jdk.jfr.Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Chave")
+    public String key;
+
+    @Label("Resultado")
+    public String result;
+
+    public static void emit(String cache, Object key, String result) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = String.valueOf(key);
+            event.result = result;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package br.ucs.webalgo.middleware.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("webalgo.ControllerInvocation")
+@Label("Requisicao a um controller")
+@Description("Requisicao HTTP recebida pelo middleware, do inicio ao fim da resposta")
+@Category({"Web-Algo", "HTTP"})
+@StackTrace(false)
+public class ControllerInvocationEvent extends jdk.jfr.Event {
+
+    @Label("Metodo")
+    public String method;
+
+    @Label("Rota")
+    public String route;
+
+    @Label("Status HTTP")
+    public int status;
+
+    @Label("Erro")
+    public String error;
+}
@@ -0,0 +1,59 @@
+package br.ucs.webalgo.middleware.infrastructure.jfr;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.stereotype.Component;
+
+// Evento JFR por requisicao recebida, a partir das observacoes http.server.requests (Tomcat ou Netty),
+// que ja cobrem respostas assincronas (Mono) ate o fim da escrita
+@Component
+public class ControllerInvocationObservationHandler implements ObservationHandler<Observation.Context> {
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof org.springframework.http.server.observation.ServerRequestObservationContext
+                || context instanceof org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        ControllerInvocationEvent event = new ControllerInvocationEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            context.put(ControllerInvocationEvent.class, event);
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        ControllerInvocationEvent event = context.get(ControllerInvocationEvent.class);
+        if (event == null) {
+            return;
+        }
+
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        if (context instanceof org.springframework.http.server.observation.ServerRequestObservationContext servlet) {
+            event.method = servlet.getCarrier().getMethod();
+            event.route = routeOf(servlet.getPathPattern(), servlet.getCarrier().getRequestURI());
+            event.status = servlet.getResponse() != null ? servlet.getResponse().getStatus() : 0;
+        } else if (context instanceof org.springframework.http.server.reactive.observation.ServerRequestObservationContext reactive) {
+            event.method = reactive.getCarrier().getMethod().name();
+            event.route = routeOf(reactive.getPathPattern(), reactive.getCarrier().getPath().value());
+            event.status = reactive.getResponse() != null && reactive.getResponse().getStatusCode() != null
+                    ? reactive.getResponse().getStatusCode().value() : 0;
+        }
+        if (context.getError() != null) {
+            event.error = context.getError().getClass().getSimpleName();
+        }
+        event.commit();
+    }
+
+    // Rota do controller quando houver (sem ids na chave); caminho cru so para o que nao casou com handler
+    private static String routeOf(String pattern, String path) {
+        return pattern != null ? pattern : path;
+    }
+}
@@ -0,0 +1,105 @@
+package br.ucs.webalgo.middleware.infrastructure.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+
+// /actuator/jfr (porta de gerenciamento 8081):
+//   GET    -> estado das gravacoes
+//   POST   -> inicia gravacao sob demanda ({"duration": "2m", "settings": "profile"})
+//   GET    /snapshot -> .jfr com o que ja foi coletado, sem parar nada
+//   DELETE -> para a gravacao sob demanda e devolve o .jfr
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final String JFR_MEDIA_TYPE = "application/octet-stream";
+
+    private final JfrRecordings recordings;
+
+    public JfrEndpoint(JfrRecordings recordings) {
+        this.recordings = recordings;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return recordings.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable Duration duration, @Nullable String settings) {
+        try {
+            return new WebEndpointResponse<>(recordings.start(duration, settings));
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(Map.of("message", e.getMessage()), HttpStatus.CONFLICT.value());
+        } catch (ParseException | IOException e) {
+            return new WebEndpointResponse<>(Map.of("message", "Configuracao JFR invalida: " + e.getMessage()),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    @ReadOperation(produces = JFR_MEDIA_TYPE)
+    public WebEndpointResponse<Resource> snapshot(@Selector String name) throws IOException {
+        if (!"snapshot".equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return file(recordings.snapshot());
+    }
+
+    @DeleteOperation(produces = JFR_MEDIA_TYPE)
+    public WebEndpointResponse<Resource> stop() throws IOException {
+        return file(recordings.stop());
+    }
+
+    private static WebEndpointResponse<Resource> file(Path path) {
+        if (path == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(path));
+    }
+
+    // Mesmo esquema do heapdump do actuator: o arquivo temporario e apagado quando o download termina
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public boolean isFile() {
+            // Forca a escrita via InputStream (sem zero-copy), para que o close apague o arquivo
+            return false;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package br.ucs.webalgo.middleware.infrastructure.jfr;
+
+import br.ucs.webalgo.middleware.infrastructure.config.JfrProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Gravacoes JFR do middleware: uma continua (opcional, ligada no profile prod) com janela limitada por
+// idade/tamanho e uma sob demanda, iniciada pelo endpoint /actuator/jfr e limitada por duracao/tamanho
+@Component
+public class JfrRecordings implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordings.class);
+
+    private final JfrProperties properties;
+    private final Path dumpDirectory;
+    private Recording continuous;
+    private Recording onDemand;
+
+    public JfrRecordings(JfrProperties properties) {
+        this.properties = properties;
+        this.dumpDirectory = Path.of(properties.dumpDirectory());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!properties.continuous() || !FlightRecorder.isAvailable()) {
+            return;
+        }
+
+        Recording recording = new Recording(Configuration.getConfiguration(properties.continuousSettings()));
+        recording.setName("webalgo-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.continuousMaxAge());
+        recording.setMaxSize(properties.continuousMaxSize().toBytes());
+        try {
+            // Ao encerrar a JVM a janela atual fica em disco para analise posterior
+            Files.createDirectories(dumpDirectory);
+            recording.setDestination(dumpDirectory.resolve("continuous.jfr"));
+            recording.setDumpOnExit(true);
+        } catch (IOException e) {
+            log.warn("Sem dump da gravacao JFR continua ao encerrar ({}): {}", dumpDirectory, e.getMessage());
+        }
+        recording.start();
+
+        synchronized (this) {
+            continuous = recording;
+        }
+        log.info("Gravacao JFR continua iniciada (settings={}, maxAge={}, maxSize={})",
+                properties.continuousSettings(), properties.continuousMaxAge(), properties.continuousMaxSize());
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("available", FlightRecorder.isAvailable());
+        status.put("continuous", describe(continuous));
+        status.put("onDemand", describe(onDemand));
+        return status;
+    }
+
+    // Duracao e tamanho pedidos sao limitados pelos maximos configurados
+    public synchronized Map<String, Object> start(Duration duration, String settings) throws IOException, ParseException {
+        if (onDemand != null && onDemand.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("Ja existe uma gravacao sob demanda em andamento");
+        }
+        if (onDemand != null) {
+            onDemand.close();
+        }
+
+        Duration max = properties.onDemandMaxDuration();
+        Duration effective = duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(max) > 0
+                ? max : duration;
+
+        Recording recording = new Recording(Configuration.getConfiguration(settings != null ? settings : properties.onDemandSettings()));
+        recording.setName("webalgo-on-demand");
+        recording.setToDisk(true);
+        recording.setDuration(effective);
+        recording.setMaxSize(properties.onDemandMaxSize().toBytes());
+        recording.start();
+        onDemand = recording;
+
+        log.info("Gravacao JFR sob demanda iniciada por {}", effective);
+        return describe(recording);
+    }
+
+    // Copia de tudo que as gravacoes em andamento ja coletaram, sem interrompe-las
+    public Path snapshot() throws IOException {
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            if (snapshot.getSize() == 0) {
+                return null;
+            }
+            Path file = tempFile("snapshot");
+            snapshot.dump(file);
+            return file;
+        }
+    }
+
+    public synchronized Path stop() throws IOException {
+        if (onDemand == null) {
+            return null;
+        }
+
+        Recording recording = onDemand;
+        onDemand = null;
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = tempFile("on-demand");
+            recording.dump(file);
+            return file;
+        } finally {
+            recording.close();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (onDemand != null) {
+            onDemand.close();
+            onDemand = null;
+        }
+        // A continua faz o dump no desligamento da JVM (dumpOnExit)
+    }
+
+    private Path tempFile(String kind) throws IOException {
+        Files.createDirectories(dumpDirectory);
+        return Files.createTempFile(dumpDirectory, "webalgo-" + kind + "-", ".jfr");
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        if (recording == null) {
+            return null;
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("name", recording.getName());
+        out.put("state", recording.getState().name());
+        Instant startTime = recording.getStartTime();
+        out.put("startTime", startTime != null ? startTime.toString() : null);
+        out.put("duration", recording.getDuration() != null ? recording.getDuration().toString() : null);
+        out.put("maxAge", recording.getMaxAge() != null ? recording.getMaxAge().toString() : null);
+        out.put("maxSize", recording.getMaxSize());
+        out.put("size", recording.getSize());
+        return out;
+    }
+}
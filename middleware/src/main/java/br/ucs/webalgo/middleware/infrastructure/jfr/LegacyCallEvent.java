@@ -0,0 +1,49 @@
+package br.ucs.webalgo.middleware.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("webalgo.LegacyCall")
+@Label("Chamada ao legado")
+@Description("Uma chamada HTTP ao web-algo legado, com as fases medidas pelo LegacyClientMetrics")
+@Category({"Web-Algo", "Legado"})
+@StackTrace(false)
+public class LegacyCallEvent extends jdk.jfr.Event {
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Metodo")
+    public String method;
+
+    @Label("Desfecho")
+    public String outcome;
+
+    @Label("Status HTTP")
+    public int status;
+
+    @Label("Bytes da resposta")
+    @DataAmount
+    public long bytes;
+
+    @Label("Aquisicao de conexao")
+    @Timespan
+    public long acquire;
+
+    @Label("Tempo ate o primeiro byte")
+    @Timespan
+    public long ttfb;
+
+    @Label("Download do corpo")
+    @Timespan
+    public long body;
+
+    @Label("Decodificacao")
+    @Timespan
+    public long decode;
+}
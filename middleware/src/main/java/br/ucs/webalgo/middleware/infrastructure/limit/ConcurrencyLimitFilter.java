@@ -0,0 +1,95 @@
+package br.ucs.webalgo.middleware.infrastructure.limit;
+
+import com.netflix.concurrency.limits.Limiter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_BODY =
+            "{\"error\":\"overloaded\",\"message\":\"Servidor sobrecarregado, tente novamente\"}";
+
+    private final InboundLimiter limiter;
+
+    public ConcurrencyLimitFilter(InboundLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.enabled() || !limiter.applies(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String partition = limiter.partitionOf(request.getMethod(), request.getRequestURI());
+        Optional<Limiter.Listener> acquired = limiter.acquire(partition);
+        if (acquired.isEmpty()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(REJECTED_BODY);
+            return;
+        }
+
+        Limiter.Listener listener = acquired.get();
+        AtomicBoolean released = new AtomicBoolean();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            // Controllers que devolvem Mono terminam no dispatch assincrono
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release(false);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        release(true);
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        release(true);
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+
+                    private void release(boolean error) {
+                        if (released.compareAndSet(false, true)) {
+                            InboundLimiter.release(listener, response.getStatus(), error);
+                        }
+                    }
+                });
+            } else if (released.compareAndSet(false, true)) {
+                InboundLimiter.release(listener, response.getStatus(), failed);
+            }
+        }
+    }
+}
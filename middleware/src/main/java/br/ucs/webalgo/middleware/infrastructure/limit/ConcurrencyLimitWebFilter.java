@@ -0,0 +1,68 @@
+package br.ucs.webalgo.middleware.infrastructure.limit;
+
+import com.netflix.concurrency.limits.Limiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ConcurrencyLimitWebFilter implements WebFilter {
+
+    private final InboundLimiter limiter;
+
+    public ConcurrencyLimitWebFilter(InboundLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (!limiter.enabled() || !limiter.applies(path)) {
+            return chain.filter(exchange);
+        }
+
+        String partition = limiter.partitionOf(exchange.getRequest().getMethod().name(), path);
+        Optional<Limiter.Listener> acquired = limiter.acquire(partition);
+        if (acquired.isEmpty()) {
+            return reject(exchange.getResponse());
+        }
+
+        Limiter.Listener listener = acquired.get();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        listener.onIgnore();
+                        return;
+                    }
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    InboundLimiter.release(listener, status == null ? 200 : status.value(),
+                            signal == SignalType.ON_ERROR);
+                });
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfterSeconds()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer body = response.bufferFactory()
+                .wrap(ConcurrencyLimitFilter.REJECTED_BODY.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,112 @@
+package br.ucs.webalgo.middleware.infrastructure.limit;
+
+import br.ucs.webalgo.middleware.infrastructure.config.InboundLimitProperties;
+import com.netflix.concurrency.limits.Limiter;
+import com.netflix.concurrency.limits.limit.Gradient2Limit;
+import com.netflix.concurrency.limits.limiter.AbstractPartitionedLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Limite adaptativo (Gradient2) de requisicoes simultaneas na API; acima dele respondemos 503 na hora
+@Component
+public class InboundLimiter {
+
+    public static final String API_PREFIX = "/api/v1/web-algo/";
+
+    static final String CRITICAL = "critical";
+    static final String BROWSE = "browse";
+
+    private final Partitioned limiter;
+    private final InboundLimitProperties properties;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public InboundLimiter(InboundLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+
+        Gradient2Limit limit = Gradient2Limit.newBuilder()
+                .initialLimit(properties.initialLimit())
+                .minLimit(properties.minLimit())
+                .maxConcurrency(properties.maxLimit())
+                .build();
+
+        Builder builder = new Builder().named("inbound").limit(limit);
+        if (properties.prioritize()) {
+            builder.partitionResolver(partition -> partition)
+                    .partition(CRITICAL, properties.criticalShare())
+                    .partition(BROWSE, 1.0 - properties.criticalShare());
+        } else {
+            builder.partitionResolver(partition -> BROWSE)
+                    .partition(BROWSE, 1.0);
+        }
+        this.limiter = new Partitioned(builder);
+
+        Gauge.builder("webalgo.inbound.limit", limiter, Partitioned::getLimit).register(registry);
+        Gauge.builder("webalgo.inbound.inflight", limiter, Partitioned::getInflight).register(registry);
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    public boolean applies(String path) {
+        return path != null && path.startsWith(API_PREFIX);
+    }
+
+    public long retryAfterSeconds() {
+        return Math.max(1, properties.retryAfter().toSeconds());
+    }
+
+    // Login, cadastro, troca de senha e gravacao de solucoes tem prioridade sobre a navegacao no catalogo
+    public String partitionOf(String method, String path) {
+        if (path.startsWith(API_PREFIX + "auth/")) {
+            return CRITICAL;
+        }
+        if (HttpMethod.POST.matches(method) && path.startsWith(API_PREFIX + "solutions")) {
+            return CRITICAL;
+        }
+        return BROWSE;
+    }
+
+    public Optional<Limiter.Listener> acquire(String partition) {
+        Optional<Limiter.Listener> listener = limiter.acquire(partition);
+        if (listener.isEmpty()) {
+            rejections.computeIfAbsent(partition, p -> Counter.builder("webalgo.inbound.rejected")
+                    .tag("partition", p)
+                    .register(registry)).increment();
+        }
+        return listener;
+    }
+
+    // Falhas rapidas (5xx) nao sao amostras de latencia validas para o algoritmo
+    public static void release(Limiter.Listener listener, int status, boolean failed) {
+        if (failed) {
+            listener.onDropped();
+        } else if (status >= 500) {
+            listener.onIgnore();
+        } else {
+            listener.onSuccess();
+        }
+    }
+
+    private static final class Partitioned extends AbstractPartitionedLimiter<String> {
+        Partitioned(AbstractPartitionedLimiter.Builder<?, String> builder) {
+            super(builder);
+        }
+    }
+
+    private static final class Builder extends AbstractPartitionedLimiter.Builder<Builder, String> {
+        @Override
+        protected Builder self() {
+            return this;
+        }
+    }
+}
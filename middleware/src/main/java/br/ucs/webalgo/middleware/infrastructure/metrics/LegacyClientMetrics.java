@@ -0,0 +1,335 @@
+package br.ucs.webalgo.middleware.infrastructure.metrics;
+
+import br.ucs.webalgo.middleware.infrastructure.jfr.LegacyCallEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Tempo de cada chamada ao legado por URI e desfecho, quebrado em aquisicao de conexao, tempo ate o primeiro
+// byte (cabecalhos), download do corpo e decodificacao, mais o tamanho das respostas.
+// WebClient: ExchangeFilterFunction + doOnRequest do HttpClient; RestClient: interceptor (sem aquisicao, o
+// HttpClient do JDK nao expoe esse momento)
+@Component
+public class LegacyClientMetrics implements ExchangeFilterFunction, ClientHttpRequestInterceptor {
+
+    private static final Object CONTEXT_KEY = LegacyClientMetrics.class;
+    private static final String DECODE_KEY = DecodeSlot.class.getName();
+
+    // Tempo de parse do LegacyPayloads levado ate o evento JFR da mesma chamada, sem depender de thread:
+    // WebClient pelo Context do Reactor (o decoder cria o slot e o corpo, que ele assina, o enxerga);
+    // RestClient pelos atributos da requisicao, que o interceptor e o exchange() compartilham
+    public static final class DecodeSlot {
+        private volatile long nanos;
+    }
+
+    private final MeterRegistry registry;
+    private final String basePath;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Timer> requests = new ConcurrentHashMap<>();
+
+    private record Endpoint(Timer acquire, Timer ttfb, Timer body, Timer decode, DistributionSummary payload) {
+    }
+
+    public LegacyClientMetrics(MeterRegistry registry, @Value("${webAlgo.url}") String baseUrl) {
+        this.registry = registry;
+        String path = URI.create(baseUrl).getPath();
+        this.basePath = path == null || path.equals("/") ? "" : path.replaceAll("/+$", "");
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Exchange exchange = new Exchange(uriOf(request.url()), request.method().name());
+
+        return next.exchange(request)
+                .map(response -> {
+                    exchange.headers(response.statusCode());
+                    return response.mutate()
+                            .body(body -> Flux.deferContextual(ctx -> body
+                                    .doOnNext(buffer -> exchange.bytes += buffer.readableByteCount())
+                                    .doOnError(exchange::failed)
+                                    .doFinally(signal -> exchange.bodyDone(signal, decodeSlot(ctx)))))
+                            .build();
+                })
+                .doOnError(exchange::failed)
+                .doOnCancel(() -> exchange.finish("CANCELLED"))
+                .contextWrite(ctx -> ctx.put(CONTEXT_KEY, exchange));
+    }
+
+    // HttpClient.doOnRequest: a requisicao so e preparada depois que a conexao foi obtida (pool, connect e TLS)
+    public void requestPrepared(HttpClientRequest request, Connection connection) {
+        request.currentContextView().<Exchange>getOrEmpty(CONTEXT_KEY).ifPresent(Exchange::acquired);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Exchange exchange = new Exchange(uriOf(request.getURI()), request.getMethod().name());
+        DecodeSlot decode = new DecodeSlot();
+        request.getAttributes().put(DECODE_KEY, decode);
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+            exchange.headers(response.getStatusCode());
+        } catch (IOException | RuntimeException e) {
+            exchange.failed(e);
+            throw e;
+        }
+        return new MeteredResponse(response, exchange, decode);
+    }
+
+    // Cada assinatura do decoder ganha o proprio slot
+    public static Context withDecodeSlot(Context context) {
+        return context.put(DECODE_KEY, new DecodeSlot());
+    }
+
+    public static DecodeSlot decodeSlot(ContextView context) {
+        return context.getOrDefault(DECODE_KEY, null);
+    }
+
+    public static DecodeSlot decodeSlot(HttpRequest request) {
+        return request.getAttributes().get(DECODE_KEY) instanceof DecodeSlot slot ? slot : null;
+    }
+
+    public void recordDecode(String uri, long nanos, DecodeSlot slot) {
+        endpoint(uri).decode().record(nanos, TimeUnit.NANOSECONDS);
+        if (slot != null) {
+            slot.nanos = nanos;
+        }
+    }
+
+    private Endpoint endpoint(String uri) {
+        return endpoints.computeIfAbsent(uri, u -> new Endpoint(
+                Timer.builder("webalgo.legacy.client.acquire")
+                        .description("Espera por uma conexao com o legado (pool, connect e TLS)")
+                        .tag("uri", u).register(registry),
+                Timer.builder("webalgo.legacy.client.ttfb")
+                        .description("Do envio da requisicao ate os cabecalhos da resposta")
+                        .tag("uri", u).register(registry),
+                Timer.builder("webalgo.legacy.client.body")
+                        .description("Dos cabecalhos ate o ultimo byte do corpo")
+                        .tag("uri", u).register(registry),
+                Timer.builder("webalgo.legacy.client.decode")
+                        .description("Parse do corpo pelo LegacyPayloads")
+                        .tag("uri", u).register(registry),
+                DistributionSummary.builder("webalgo.legacy.client.payload.size")
+                        .baseUnit("bytes")
+                        .tag("uri", u).register(registry)));
+    }
+
+    private Timer requestTimer(String uri, String method, String outcome, String status) {
+        return requests.computeIfAbsent(uri + ' ' + method + ' ' + outcome + ' ' + status,
+                k -> Timer.builder("webalgo.legacy.client.requests")
+                        .description("Chamada completa ao legado, da requisicao ao fim do corpo")
+                        .tags("uri", uri, "method", method, "outcome", outcome, "status", status)
+                        .register(registry));
+    }
+
+    private String uriOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty()) return "/";
+        return !basePath.isEmpty() && path.startsWith(basePath) ? path.substring(basePath.length()) : path;
+    }
+
+    static String outcomeOf(HttpStatusCode status) {
+        if (status.is2xxSuccessful()) return "SUCCESS";
+        if (status.is3xxRedirection()) return "REDIRECTION";
+        if (status.is4xxClientError()) return "CLIENT_ERROR";
+        if (status.is5xxServerError()) return "SERVER_ERROR";
+        return "UNKNOWN";
+    }
+
+    static String outcomeOf(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            // Excecoes do pool do Reactor Netty ficam em pacote sombreado (reactor.netty.internal.shaded)
+            if (e.getClass().getSimpleName().startsWith("PoolAcquire")) return "POOL_EXHAUSTED";
+            if (e instanceof TimeoutException || e instanceof ReadTimeoutException
+                    || e instanceof HttpTimeoutException) return "TIMEOUT";
+            if (e instanceof PrematureCloseException) return "CONNECTION_RESET";
+            if (e instanceof ConnectException || e instanceof UnknownHostException) return "CONNECT_ERROR";
+            if (e instanceof SocketException) return "CONNECTION_RESET";
+            // Transporte nativo (epoll) reporta o RST como Errors.NativeIoException, um IOException generico
+            if (e instanceof IOException && e.getMessage() != null && e.getMessage().contains("reset")) {
+                return "CONNECTION_RESET";
+            }
+        }
+        return "IO_ERROR";
+    }
+
+    private final class Exchange {
+        private final String uri;
+        private final String method;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final AtomicBoolean bodyRecorded = new AtomicBoolean();
+        private volatile long acquiredAt;
+        private volatile long headersAt;
+        private volatile HttpStatusCode status;
+        private volatile long bodyNanos;
+        private volatile long decodeNanos;
+        private long bytes;
+        private final LegacyCallEvent event = new LegacyCallEvent();
+
+        private Exchange(String uri, String method) {
+            this.uri = uri;
+            this.method = method;
+            event.begin();
+        }
+
+        private void acquired() {
+            acquiredAt = System.nanoTime();
+            endpoint(uri).acquire().record(acquiredAt - start, TimeUnit.NANOSECONDS);
+        }
+
+        private void headers(HttpStatusCode status) {
+            this.status = status;
+            headersAt = System.nanoTime();
+            long sentAt = acquiredAt > 0 ? acquiredAt : start;
+            endpoint(uri).ttfb().record(headersAt - sentAt, TimeUnit.NANOSECONDS);
+        }
+
+        // O decoder junta o corpo e faz o parse ao receber o fim dele, antes deste doFinally/close
+        private void bodyDone(SignalType signal, DecodeSlot decode) {
+            // O WebClient pode assinar o corpo de novo so para libera-lo (releaseIfNotConsumed)
+            if (!bodyRecorded.compareAndSet(false, true)) return;
+            bodyNanos = System.nanoTime() - headersAt;
+            if (decode != null) decodeNanos = decode.nanos;
+            Endpoint endpoint = endpoint(uri);
+            endpoint.body().record(bodyNanos, TimeUnit.NANOSECONDS);
+            endpoint.payload().record(bytes);
+            // Erro no meio do corpo (reset, timeout) prevalece sobre o status ja recebido
+            if (signal == SignalType.ON_COMPLETE) {
+                finish(outcomeOf(status));
+            } else if (signal == SignalType.CANCEL) {
+                finish("CANCELLED");
+            }
+        }
+
+        private void failed(Throwable error) {
+            finish(outcomeOf(error));
+        }
+
+        private void finish(String outcome) {
+            if (!finished.compareAndSet(false, true)) return;
+            String statusTag = status != null ? String.valueOf(status.value()) : "NONE";
+            requestTimer(uri, method, outcome, statusTag).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.uri = uri;
+                event.method = method;
+                event.outcome = outcome;
+                event.status = status != null ? status.value() : 0;
+                event.bytes = bytes;
+                event.acquire = acquiredAt > 0 ? acquiredAt - start : 0;
+                event.ttfb = headersAt > 0 ? headersAt - (acquiredAt > 0 ? acquiredAt : start) : 0;
+                event.body = bodyNanos;
+                event.decode = decodeNanos;
+                event.commit();
+            }
+        }
+    }
+
+    // Corpo do RestClient: conta os bytes lidos e fecha a medicao no close (DefaultRestClient sempre fecha)
+    private static final class MeteredResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Exchange exchange;
+        private final DecodeSlot decode;
+        private InputStream body;
+
+        private MeteredResponse(ClientHttpResponse delegate, Exchange exchange, DecodeSlot decode) {
+            this.delegate = delegate;
+            this.exchange = exchange;
+            this.decode = decode;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        try {
+                            int b = super.read();
+                            if (b >= 0) exchange.bytes++;
+                            return b;
+                        } catch (IOException e) {
+                            exchange.failed(e);
+                            throw e;
+                        }
+                    }
+
+                    @Override
+                    public int read(byte[] buf, int off, int len) throws IOException {
+                        try {
+                            int n = super.read(buf, off, len);
+                            if (n > 0) exchange.bytes += n;
+                            return n;
+                        } catch (IOException e) {
+                            exchange.failed(e);
+                            throw e;
+                        }
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                exchange.bodyDone(SignalType.ON_COMPLETE, decode);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.ucs.webalgo.middleware.infrastructure.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+// Ultimos N spans em memoria, consultaveis via /actuator/traces sem coletor externo
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final Deque<SpanRecord> spans;
+
+    public InMemorySpanExporter(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.spans = new ArrayDeque<>(this.capacity);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> batch) {
+        List<SpanRecord> records = batch.stream().map(SpanRecord::of).toList();
+        synchronized (spans) {
+            for (SpanRecord record : records) {
+                if (spans.size() == capacity) {
+                    spans.pollFirst();
+                }
+                spans.addLast(record);
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public List<SpanRecord> recent(int limit) {
+        List<SpanRecord> result = new ArrayList<>(Math.min(limit, capacity));
+        synchronized (spans) {
+            Iterator<SpanRecord> it = spans.descendingIterator();
+            while (it.hasNext() && result.size() < limit) {
+                result.add(it.next());
+            }
+        }
+        return result;
+    }
+
+    public List<SpanRecord> trace(String traceId) {
+        synchronized (spans) {
+            return spans.stream().filter(s -> s.traceId().equals(traceId)).toList();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        synchronized (spans) {
+            spans.clear();
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+}
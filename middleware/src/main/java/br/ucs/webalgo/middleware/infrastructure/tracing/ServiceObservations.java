@@ -0,0 +1,53 @@
+package br.ucs.webalgo.middleware.infrastructure.tracing;
+
+import br.ucs.webalgo.middleware.application.port.out.observation.ObservationPort;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+// Span por operacao de service: filho do span do controller e pai das chamadas ao legado feitas dentro dela
+@Component
+public class ServiceObservations implements ObservationPort {
+
+    public static final String NAME = "webalgo.service";
+
+    private final ObservationRegistry registry;
+
+    public ServiceObservations(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> Mono<T> observe(String service, String operation, Supplier<Mono<T>> call) {
+        if (registry.isNoop()) {
+            return Mono.defer(call);
+        }
+
+        return Mono.deferContextual(ctx -> {
+            // Reativo: o pai vem do contexto do Reactor; servlet: da thread da requisicao que assina
+            Observation parent = ctx.getOrDefault(ObservationThreadLocalAccessor.KEY, registry.getCurrentObservation());
+            Observation observation = Observation.createNotStarted(NAME, registry)
+                    .contextualName(service + " " + operation)
+                    .lowCardinalityKeyValue("service", service)
+                    .lowCardinalityKeyValue("operation", operation)
+                    .parentObservation(parent)
+                    .start();
+
+            Mono<T> source;
+            try (Observation.Scope ignored = observation.openScope()) {
+                source = call.get();
+            } catch (RuntimeException e) {
+                source = Mono.error(e);
+            }
+
+            return source
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(c -> c.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+}
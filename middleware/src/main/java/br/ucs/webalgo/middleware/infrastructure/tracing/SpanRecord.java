@@ -0,0 +1,31 @@
+package br.ucs.webalgo.middleware.infrastructure.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public record SpanRecord(String traceId,
+                         String spanId,
+                         String parentSpanId,
+                         String name,
+                         String kind,
+                         Instant start,
+                         long durationMicros,
+                         String status,
+                         Map<String, String> attributes) {
+
+    public static SpanRecord of(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((AttributeKey<?> key, Object value) -> attributes.put(key.getKey(), String.valueOf(value)));
+
+        String parent = span.getParentSpanContext().isValid() ? span.getParentSpanId() : null;
+        return new SpanRecord(span.getTraceId(), span.getSpanId(), parent, span.getName(), span.getKind().name(),
+                Instant.ofEpochSecond(0, span.getStartEpochNanos()),
+                TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                span.getStatus().getStatusCode().name(), attributes);
+    }
+}
@@ -0,0 +1,33 @@
+package br.ucs.webalgo.middleware.infrastructure.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+// /actuator/traces (porta 8081), so com web-algo.tracing.exporter=memory:
+//   GET             -> ultimos spans (?limit=100)
+//   GET /{traceId}  -> todos os spans de um trace ainda em memoria
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final InMemorySpanExporter exporter;
+
+    public TracesEndpoint(InMemorySpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<SpanRecord> recent(@Nullable Integer limit) {
+        return exporter.recent(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit);
+    }
+
+    @ReadOperation
+    public List<SpanRecord> trace(@Selector String traceId) {
+        return exporter.trace(traceId);
+    }
+}
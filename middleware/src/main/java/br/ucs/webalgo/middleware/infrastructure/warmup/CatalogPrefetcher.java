@@ -0,0 +1,131 @@
+package br.ucs.webalgo.middleware.infrastructure.warmup;
+
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeCommand;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyCommand;
+import br.ucs.webalgo.middleware.application.port.out.problem.ProblemPort;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedInEvent;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedOutEvent;
+import br.ucs.webalgo.middleware.infrastructure.config.PrefetchProperties;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Preenche os caches na frente do ProblemPort logo apos o login (e no startup, via CatalogWarmUp).
+// Tarefas iguais em andamento sao ignoradas e o ritmo global e limitado: rajada de logins nao vira rajada no legado.
+@Component
+public class CatalogPrefetcher {
+
+    private final ProblemPort problems;
+    private final PrefetchProperties properties;
+    private final MeterRegistry registry;
+    private final RateLimiter limiter;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, Disposable.Swap> running = new ConcurrentHashMap<>();
+
+    public CatalogPrefetcher(ProblemPort problems, PrefetchProperties properties, MeterRegistry registry) {
+        this.problems = problems;
+        this.properties = properties;
+        this.registry = registry;
+        this.limiter = RateLimiter.of("prefetch", RateLimiterConfig.custom()
+                .limitForPeriod(Math.max(1, properties.ratePerSecond()))
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+    }
+
+    // Depois dos indices de sessao (ValidatedSessions, LocalSessionIndex), que registram o login primeiro
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onLogin(UserLoggedInEvent event) {
+        if (!properties.enabled() || event.username() == null) {
+            return;
+        }
+
+        // Novo login do mesmo usuario cancela o prefetch anterior
+        Disposable.Swap slot = Disposables.swap();
+        Disposable.Swap previous = running.put(event.username(), slot);
+        if (previous != null) {
+            previous.dispose();
+        }
+        // Fora da thread do login, que responde ao usuario sem esperar o prefetch
+        slot.update(prefetch(event.sessionId(), event.username(), "login", true)
+                .doFinally(s -> running.remove(event.username(), slot))
+                .subscribeOn(Schedulers.parallel())
+                .subscribe());
+    }
+
+    @EventListener
+    public void onLogout(UserLoggedOutEvent event) {
+        if (event.username() == null) {
+            return;
+        }
+        Disposable.Swap slot = running.remove(event.username());
+        if (slot != null) {
+            slot.dispose();
+        }
+    }
+
+    public Mono<Long> prefetch(String sessionId, String username, String source, boolean includeHotCodes) {
+        Flux<Mono<Object>> catalog = Flux.fromIterable(properties.keys())
+                .map(key -> task(source, "key:" + key,
+                        () -> problems.searchProblemByKey(new SearchByKeyCommand(key, sessionId, username))));
+
+        // Detalhes sao cacheados por usuario, entao so fazem sentido com a sessao de quem vai usa-los
+        Flux<Mono<Object>> hot = !includeHotCodes ? Flux.empty() : Flux.fromIterable(properties.hotCodes())
+                .map(code -> task(source, "code:" + code + "#" + username,
+                        () -> problems.fetchProblemData(new FetchByCodeCommand(code, sessionId, username))));
+
+        return Flux.concat(catalog, hot)
+                .flatMap(t -> t, Math.max(1, properties.concurrency()))
+                .count();
+    }
+
+    // A chamada so e montada depois de admitida (fora de inFlight e com permissao do rate limiter):
+    // adapters que fazem trabalho ao montar o Mono nao rodam para tarefas descartadas
+    private Mono<Object> task(String source, String key, Supplier<Mono<?>> call) {
+        return Mono.defer(() -> {
+            if (!inFlight.add(key)) {
+                count(source, "skipped");
+                return Mono.empty();
+            }
+            return Mono.defer(call).<Object>map(v -> v)
+                    .transformDeferred(RateLimiterOperator.of(limiter))
+                    .timeout(properties.timeout())
+                    .doOnSuccess(v -> count(source, "loaded"))
+                    .onErrorResume(e -> {
+                        count(source, e instanceof RequestNotPermitted ? "denied" : "failed");
+                        return Mono.empty();
+                    })
+                    .doOnCancel(() -> count(source, "cancelled"))
+                    .doFinally(s -> inFlight.remove(key));
+        });
+    }
+
+    private void count(String source, String outcome) {
+        registry.counter("webalgo.prefetch.tasks", "source", source, "outcome", outcome).increment();
+    }
+
+    @PreDestroy
+    void cancelAll() {
+        running.values().forEach(Disposable::dispose);
+        running.clear();
+    }
+}
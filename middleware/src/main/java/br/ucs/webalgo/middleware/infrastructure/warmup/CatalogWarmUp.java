@@ -0,0 +1,56 @@
+package br.ucs.webalgo.middleware.infrastructure.warmup;
+
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.LoginCommand;
+import br.ucs.webalgo.middleware.application.port.in.auth.dto.LogoutCommand;
+import br.ucs.webalgo.middleware.application.port.out.auth.AuthenticationPort;
+import br.ucs.webalgo.middleware.infrastructure.config.PrefetchProperties;
+import br.ucs.webalgo.middleware.shared.util.StringTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// Carrega as chaves do catalogo com uma conta de servico antes da readiness ficar UP.
+// Vai direto no AuthenticationPort para nao disparar o prefetch de login.
+@Component
+public class CatalogWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogWarmUp.class);
+
+    private final AuthenticationPort authentication;
+    private final CatalogPrefetcher prefetcher;
+    private final PrefetchProperties properties;
+
+    public CatalogWarmUp(AuthenticationPort authentication, CatalogPrefetcher prefetcher, PrefetchProperties properties) {
+        this.authentication = authentication;
+        this.prefetcher = prefetcher;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.warmUpOnStartup()) {
+            return;
+        }
+        if (StringTools.isNullOrEmpty(properties.serviceUsername()) || StringTools.isNullOrEmpty(properties.servicePassword())) {
+            log.warn("Aquecimento do catalogo habilitado sem conta de servico; ignorando");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Long loaded = authentication.authenticate(new LoginCommand(properties.serviceUsername(), properties.servicePassword()))
+                    .flatMap(session -> prefetcher.prefetch(session.sessionId(), session.username(), "startup", false)
+                            .flatMap(n -> authentication.invalidateSession(new LogoutCommand(session.username(), session.sessionId()))
+                                    .thenReturn(n)
+                                    .onErrorReturn(n)))
+                    .block(properties.timeout().multipliedBy(2));
+            log.info("Aquecimento do catalogo: {}/{} chaves em {} ms", loaded, properties.keys().size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Aquecimento do catalogo falhou: {}", e.getMessage());
+        }
+    }
+}
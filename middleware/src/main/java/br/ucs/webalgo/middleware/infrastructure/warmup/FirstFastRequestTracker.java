@@ -0,0 +1,45 @@
+package br.ucs.webalgo.middleware.infrastructure.warmup;
+
+import br.ucs.webalgo.middleware.infrastructure.config.LegacyWarmUpProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mede quanto tempo, desde o inicio da JVM, ate a primeira chamada ao legado abaixo do limite "rapido"
+@Component
+public class FirstFastRequestTracker implements ExchangeFilterFunction {
+
+    private final long thresholdNanos;
+    private final AtomicLong firstFastAtMillis = new AtomicLong(-1);
+
+    public FirstFastRequestTracker(LegacyWarmUpProperties properties, MeterRegistry registry) {
+        this.thresholdNanos = properties.fastRequestThreshold().toNanos();
+        Gauge.builder("webalgo.legacy.time.to.first.fast.request", firstFastAtMillis,
+                        v -> v.get() < 0 ? Double.NaN : v.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (firstFastAtMillis.get() >= 0) {
+            return next.exchange(request);
+        }
+
+        long start = System.nanoTime();
+        return next.exchange(request)
+                .doOnNext(resp -> {
+                    if (System.nanoTime() - start <= thresholdNanos) {
+                        firstFastAtMillis.compareAndSet(-1, ManagementFactory.getRuntimeMXBean().getUptime());
+                    }
+                });
+    }
+}
@@ -0,0 +1,74 @@
+package br.ucs.webalgo.middleware.infrastructure.warmup;
+
+import br.ucs.webalgo.middleware.infrastructure.config.LegacyWarmUpProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.concurrent.TimeUnit;
+
+// Roda antes do ApplicationReadyEvent, entao a readiness probe so fica UP depois do aquecimento
+@Component
+public class LegacyConnectionWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyConnectionWarmUp.class);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LegacyWarmUpProperties properties;
+    private final Timer duration;
+    private final Counter opened;
+    private final Counter failed;
+
+    public LegacyConnectionWarmUp(HttpClient legacyHttpClient, @Value("${webAlgo.url}") String baseUrl,
+                                  LegacyWarmUpProperties properties, MeterRegistry registry) {
+        this.http = legacyHttpClient;
+        this.baseUrl = baseUrl;
+        this.properties = properties;
+        this.duration = Timer.builder("webalgo.legacy.warmup.duration").register(registry);
+        this.opened = Counter.builder("webalgo.legacy.warmup.connections").tag("outcome", "success").register(registry);
+        this.failed = Counter.builder("webalgo.legacy.warmup.connections").tag("outcome", "failure").register(registry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled() || properties.connections() <= 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int n = properties.connections();
+
+        // Requisicoes simultaneas obrigam o pool a abrir (e fazer o handshake de) n conexoes distintas
+        Long ok;
+        try {
+            ok = Flux.range(0, n)
+                    .flatMap(i -> http.head()
+                            .uri(baseUrl + "/")
+                            .responseSingle((resp, body) -> body.then(Mono.just(1L)))
+                            .doOnNext(v -> opened.increment())
+                            .onErrorResume(e -> {
+                                failed.increment();
+                                return Mono.just(0L);
+                            }), n)
+                    .reduce(0L, Long::sum)
+                    .block(properties.timeout());
+        } catch (IllegalStateException e) {
+            log.warn("Aquecimento do legado excedeu {}; seguindo com o pool parcial", properties.timeout());
+            ok = null;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        duration.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Aquecimento do legado: {}/{} conexoes em {} ms", ok, n, elapsed / 1_000_000);
+    }
+}
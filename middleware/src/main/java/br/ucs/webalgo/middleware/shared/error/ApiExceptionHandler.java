@@ -1,16 +1,22 @@
 package br.ucs.webalgo.middleware.shared.error;
 
 import br.ucs.webalgo.middleware.domain.exception.InvalidCredentialsException;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.domain.exception.UpstreamUnavailableException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.Map;
 
 @RestControllerAdvice
 public class ApiExceptionHandler {
 
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(5);
+
     @ExceptionHandler(InvalidCredentialsException.class)
     public ResponseEntity<Map<String, Object>> handleCredentials(InvalidCredentialsException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -19,4 +25,30 @@ public class ApiExceptionHandler {
                         "message", ex.getMessage()
                 ));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidSessionException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidSession(InvalidSessionException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of(
+                        "error", "invalid_session",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleUpstreamUnavailable(UpstreamUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+                .body(Map.of(
+                        "error", "upstream_unavailable",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    // Retry-After em segundos inteiros, arredondado para cima e nunca menor que 1
+    private static String retryAfterSeconds(Duration retryAfter) {
+        Duration wait = retryAfter == null || retryAfter.isNegative() ? DEFAULT_RETRY_AFTER : retryAfter;
+        long seconds = (wait.toMillis() + 999) / 1000;
+        return Long.toString(Math.max(1, seconds));
+    }
+}
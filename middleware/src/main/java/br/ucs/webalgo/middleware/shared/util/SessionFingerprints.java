@@ -0,0 +1,21 @@
+package br.ucs.webalgo.middleware.shared.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class SessionFingerprints {
+    private SessionFingerprints() {
+    }
+
+    // Hash do sessionid: chaves de cache, diario, snapshot e actuator nunca carregam o token em si
+    public static String of(String sessionId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sessionId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.ucs.webalgo.middleware.shared.util;
+
+public final class SolutionCodes {
+    private SolutionCodes() {
+    }
+
+    // Codigos de solucao seguem o formato <solucao>_<problema>
+    public static String problemCodeOf(String solutionCode) {
+        if (solutionCode == null) return null;
+        int i = solutionCode.lastIndexOf('_');
+        return i >= 0 ? solutionCode.substring(i + 1) : solutionCode;
+    }
+}
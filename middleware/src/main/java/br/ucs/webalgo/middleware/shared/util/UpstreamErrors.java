@@ -0,0 +1,29 @@
+package br.ucs.webalgo.middleware.shared.util;
+
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.domain.exception.UpstreamUnavailableException;
+
+public final class UpstreamErrors {
+    private UpstreamErrors() {
+    }
+
+    // Codigo de erro devolvido por item em respostas parciais (lote, workspace)
+    public static String codeOf(Throwable e) {
+        if (e instanceof UpstreamUnavailableException) return "upstream_unavailable";
+        if (e instanceof InvalidSessionException) return "invalid_session";
+        if (e instanceof IllegalStateException) return "unauthorized";
+        if (e instanceof IllegalArgumentException) return "invalid_code";
+        return "upstream_error";
+    }
+
+    // Mensagem fixa por codigo: a mensagem da excecao pode carregar URI, corpo ou detalhe interno do legado
+    public static String messageOf(String code) {
+        return switch (code) {
+            case "upstream_unavailable" -> "Servidor web-algo indisponível";
+            case "invalid_session" -> "Sessão inválida ou expirada";
+            case "unauthorized" -> "Acesso não autorizado";
+            case "invalid_code" -> "Código inválido";
+            default -> "Falha ao consultar o servidor web-algo";
+        };
+    }
+}
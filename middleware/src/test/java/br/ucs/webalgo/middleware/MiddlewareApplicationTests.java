@@ -1,9 +1,9 @@
-package br.ucs.gswaskievicz.middleware;
+package br.ucs.webalgo.middleware;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "WEB_ALGO_URL=http://localhost:9200")
 class MiddlewareApplicationTests {
 
     @Test
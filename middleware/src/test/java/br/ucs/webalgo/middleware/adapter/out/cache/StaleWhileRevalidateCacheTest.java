@@ -0,0 +1,155 @@
+package br.ucs.webalgo.middleware.adapter.out.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaleWhileRevalidateCacheTest {
+
+    private final ManualClock clock = new ManualClock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StaleWhileRevalidateCache<String, String> cache = new StaleWhileRevalidateCache<>("teste",
+            Duration.ofMinutes(1), Duration.ofMinutes(10), value -> !value.isEmpty(), registry, clock);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void freshEntryIsServedWithoutCallingTheLoader() {
+        cache.put("k", "v1");
+
+        StepVerifier.create(cache.get("k", () -> load("v2")))
+                .expectNext("v1")
+                .verifyComplete();
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void staleEntryIsServedAtOnceAndRefreshedOnceInBackground() {
+        cache.put("k", "v1");
+        clock.advance(Duration.ofMinutes(2));
+        Sinks.One<String> refresh = Sinks.one();
+
+        // Varios acessos ao valor vencido enquanto a recarga nao volta: todos recebem v1 e so uma carga sai
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(cache.get("k", () -> {
+                        loads.incrementAndGet();
+                        return refresh.asMono();
+                    }))
+                    .expectNext("v1")
+                    .verifyComplete();
+        }
+        awaitLoads(1);
+        refresh.tryEmitValue("v2");
+        awaitValue("k", "v2");
+
+        assertThat(loads).hasValue(1);
+        StepVerifier.create(cache.get("k", () -> load("v3")))
+                .expectNext("v2")
+                .verifyComplete();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() {
+        Sinks.One<String> response = Sinks.one();
+
+        Mono<String> first = cache.get("k", () -> {
+            loads.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<String> second = cache.get("k", () -> load("outro"));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.tryEmitValue("v1"))
+                .assertNext(pair -> {
+                    assertThat(pair.getT1()).isEqualTo("v1");
+                    assertThat(pair.getT2()).isEqualTo("v1");
+                })
+                .verifyComplete();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void entryPastTheStaleWindowWaitsForTheLoader() {
+        cache.put("k", "v1");
+        clock.advance(Duration.ofMinutes(12));
+
+        StepVerifier.create(cache.get("k", () -> load("v2")))
+                .expectNext("v2")
+                .verifyComplete();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void failedOrUncacheableLoadsKeepTheStaleValue() {
+        cache.put("k", "v1");
+        clock.advance(Duration.ofMinutes(2));
+
+        StepVerifier.create(cache.refresh("k", () -> Mono.error(new IllegalStateException("legado fora"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(cache.refresh("k", () -> load("")))
+                .expectNext("")
+                .verifyComplete();
+
+        assertThat(cache.asMap()).containsEntry("k", "v1");
+        assertThat(registry.get("webalgo.cache.loads").tag("outcome", "failure").counter().count()).isEqualTo(1);
+    }
+
+    private Mono<String> load(String value) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return value;
+        });
+    }
+
+    private void awaitLoads(int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (loads.get() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitValue(String key, String expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!expected.equals(cache.asMap().get(key)) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class ManualClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> MEMBERS = List.of("http://middleware1:8081", "http://middleware2:8081",
+            "http://middleware3:8081");
+    private static final List<String> CODES = IntStream.range(0, 30_000)
+            .mapToObj(i -> String.format("S%08d", i))
+            .toList();
+
+    @Test
+    void codesAreSpreadAcrossMembers() {
+        ConsistentHashRing ring = ConsistentHashRing.of(MEMBERS, 128);
+
+        Map<String, Integer> owned = new HashMap<>();
+        CODES.forEach(code -> owned.merge(ring.owner(code), 1, Integer::sum));
+
+        assertThat(owned).containsOnlyKeys(MEMBERS);
+        // Ideal 1/3 de 30000; 128 nos virtuais mantem cada membro dentro de +-25% disso
+        owned.values().forEach(count -> assertThat(count).isBetween(7_500, 12_500));
+    }
+
+    @Test
+    void removingAMemberOnlyMovesItsCodes() {
+        ConsistentHashRing full = ConsistentHashRing.of(MEMBERS, 128);
+        String removed = MEMBERS.get(1);
+        ConsistentHashRing reduced = ConsistentHashRing.of(List.of(MEMBERS.get(0), MEMBERS.get(2)), 128);
+
+        int moved = 0;
+        for (String code : CODES) {
+            String before = full.owner(code);
+            String after = reduced.owner(code);
+            if (before.equals(removed)) {
+                assertThat(after).isNotEqualTo(removed);
+                moved++;
+            } else {
+                assertThat(after).isEqualTo(before);
+            }
+        }
+        assertThat(moved).isPositive();
+    }
+
+    @Test
+    void ownerDoesNotDependOnMemberOrder() {
+        ConsistentHashRing ring = ConsistentHashRing.of(MEMBERS, 128);
+        ConsistentHashRing reversed = ConsistentHashRing.of(MEMBERS.reversed(), 128);
+
+        CODES.forEach(code -> assertThat(reversed.owner(code)).isEqualTo(ring.owner(code)));
+    }
+
+    @Test
+    void emptyRingHasNoOwner() {
+        assertThat(ConsistentHashRing.of(List.of(), 128).owner("S00000001")).isNull();
+    }
+}
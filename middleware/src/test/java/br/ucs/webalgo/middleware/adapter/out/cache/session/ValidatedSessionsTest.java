@@ -0,0 +1,54 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.session;
+
+import br.ucs.webalgo.middleware.application.port.service.auth.SessionGuard;
+import br.ucs.webalgo.middleware.domain.event.UserLoggedInEvent;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import br.ucs.webalgo.middleware.domain.exception.UpstreamUnavailableException;
+import br.ucs.webalgo.middleware.infrastructure.config.SessionIndexProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidatedSessionsTest {
+
+    private final ValidatedSessions sessions = new ValidatedSessions(new SessionIndexProperties(SessionGuard.Mode.SHADOW,
+            1000, Duration.ofHours(1), Duration.ofHours(1), "[A-Za-z0-9]+", Duration.ofMinutes(5)),
+            new SimpleMeterRegistry());
+
+    @Test
+    void upstreamOutageKeepsTheValidation() {
+        sessions.onLogin(new UserLoggedInEvent("s1", "aluno"));
+
+        StepVerifier.create(sessions.track("s1", Mono.<String>error(new TimeoutException()), v -> true))
+                .expectError(TimeoutException.class)
+                .verify();
+        StepVerifier.create(sessions.track("s1", Mono.<String>error(
+                        new UpstreamUnavailableException("indisponivel", null, Duration.ofSeconds(10))), v -> true))
+                .expectError(UpstreamUnavailableException.class)
+                .verify();
+
+        assertThat(sessions.isValidated("s1")).isTrue();
+    }
+
+    @Test
+    void explicitRejectionRevokesTheValidation() {
+        sessions.onLogin(new UserLoggedInEvent("s1", "aluno"));
+        sessions.onLogin(new UserLoggedInEvent("s2", "aluno"));
+
+        StepVerifier.create(sessions.track("s1", Mono.just(""), v -> !v.isEmpty()))
+                .expectNext("")
+                .verifyComplete();
+        StepVerifier.create(sessions.track("s2", Mono.<String>error(new InvalidSessionException("Sessão inválida")), v -> true))
+                .expectError(InvalidSessionException.class)
+                .verify();
+
+        assertThat(sessions.isValidated("s1")).isFalse();
+        assertThat(sessions.isValidated("s2")).isFalse();
+    }
+}
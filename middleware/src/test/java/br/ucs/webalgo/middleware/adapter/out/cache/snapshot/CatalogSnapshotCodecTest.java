@@ -0,0 +1,86 @@
+package br.ucs.webalgo.middleware.adapter.out.cache.snapshot;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.problem.ProblemDetailsCache;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.FetchByCodeResult;
+import br.ucs.webalgo.middleware.application.port.in.problem.dto.SearchByKeyResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotCodecTest {
+
+    private static final ProblemDetailsCache.Key KEY = new ProblemDetailsCache.Key("S00000050", "a1b2c3");
+
+    @Test
+    void roundTripKeepsCatalogAndDetails() throws IOException {
+        CatalogSnapshot snapshot = new CatalogSnapshot(1_700_000_000_000L,
+                Map.of("vetores", new SearchByKeyResult(List.of("S00000050", "S00000051")),
+                        "vazio", new SearchByKeyResult(null)),
+                Map.of(KEY, new ProblemDetailsCache.Expiring(
+                                new FetchByCodeResult("1 2", "3", 5, List.of("S00000050_1"), List.of("aluno"), "Soma ção"),
+                                1_700_000_060_000L),
+                        new ProblemDetailsCache.Key("S00000051", "d4e5f6"), new ProblemDetailsCache.Expiring(
+                                new FetchByCodeResult(null, null, null, null, null, null), 1_700_000_120_000L)));
+
+        CatalogSnapshot read = CatalogSnapshotCodec.read(ByteBuffer.wrap(encode(snapshot)));
+
+        assertThat(read).isEqualTo(snapshot);
+    }
+
+    @Test
+    void flippedByteFailsTheCrc() throws IOException {
+        byte[] bytes = encode(sample());
+        bytes[bytes.length / 2] ^= 0x01;
+
+        assertThatThrownBy(() -> CatalogSnapshotCodec.read(ByteBuffer.wrap(bytes)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("CRC32");
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        byte[] bytes = encode(sample());
+
+        assertThatThrownBy(() -> CatalogSnapshotCodec.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 7))))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> CatalogSnapshotCodec.read(ByteBuffer.wrap(Arrays.copyOf(bytes, 10))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("truncado");
+    }
+
+    @Test
+    void otherVersionIsRejectedEvenWithAValidCrc() throws IOException {
+        byte[] bytes = encode(sample());
+        ByteBuffer.wrap(bytes).putShort(4, (short) 1);
+        // Recalcula o CRC para que so a versao seja o problema
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - 4, (int) crc.getValue());
+
+        assertThatThrownBy(() -> CatalogSnapshotCodec.read(ByteBuffer.wrap(bytes)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Versao");
+    }
+
+    private static CatalogSnapshot sample() {
+        return new CatalogSnapshot(System.currentTimeMillis(),
+                Map.of("vetores", new SearchByKeyResult(List.of("S00000050"))),
+                Map.of(KEY, new ProblemDetailsCache.Expiring(
+                        new FetchByCodeResult("1", "1", 1, List.of(), List.of(), "d"), System.currentTimeMillis())));
+    }
+
+    private static byte[] encode(CatalogSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogSnapshotCodec.write(snapshot, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,124 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.infrastructure.config.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LegacyHedgingTest {
+
+    // As tentativas de aquecimento respondem na hora, entao o atraso da copia fica no piso (minDelay)
+    private static final Duration MIN_DELAY = Duration.ofMillis(200);
+    private static final int MIN_SAMPLES = 3;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void noCopyIsSentBeforeTheEndpointHasEnoughSamples() {
+        LegacyHedging hedging = hedging(100, 10);
+
+        StepVerifier.withVirtualTime(() -> slowThenFast().transform(hedging.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("principal")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void copyIsSentAfterTheDelayAndTheFirstAnswerWins() {
+        LegacyHedging hedging = warmedUp(hedging(100, 10));
+
+        StepVerifier.withVirtualTime(() -> slowThenFast().transform(hedging.forEndpoint("/dadosProblema")))
+                .expectSubscription()
+                .thenAwait(MIN_DELAY.minusMillis(1))
+                .then(() -> assertThat(attempts).hasValue(1))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("copia")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(count("webalgo.legacy.hedges")).isEqualTo(1);
+        assertThat(count("webalgo.legacy.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void failedCopyLeavesTheAnswerToThePrimary() {
+        LegacyHedging hedging = warmedUp(hedging(100, 10));
+
+        StepVerifier.withVirtualTime(() -> Mono.defer(() -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(Duration.ofSeconds(1)).thenReturn("principal")
+                        : Mono.<String>error(new IllegalStateException("copia falhou")))
+                        .transform(hedging.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNext("principal")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(count("webalgo.legacy.hedge.wins")).isZero();
+    }
+
+    @Test
+    void copiesStopWhenTheBudgetRunsOut() {
+        // Cada principal deposita meia ficha e o saldo nunca passa de uma: no maximo uma copia a cada duas chamadas
+        LegacyHedging hedging = warmedUp(hedging(50, 1));
+
+        StepVerifier.withVirtualTime(() -> slowThenFast().transform(hedging.forEndpoint("/dadosProblema")))
+                .thenAwait(MIN_DELAY)
+                .expectNext("copia")
+                .verifyComplete();
+
+        attempts.set(0);
+        StepVerifier.withVirtualTime(() -> slowThenFast().transform(hedging.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("principal")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+        assertThat(count("webalgo.legacy.hedges")).isEqualTo(1);
+        assertThat(count("webalgo.legacy.hedge.denied")).isEqualTo(1);
+    }
+
+    @Test
+    void disabledHedgingOnlyTimesThePrimary() {
+        LegacyHedging hedging = warmedUp(new LegacyHedging(new HedgingProperties(false, 100, 10, MIN_DELAY, MIN_SAMPLES),
+                registry));
+
+        StepVerifier.withVirtualTime(() -> slowThenFast().transform(hedging.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(10))
+                .expectNext("principal")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(1);
+        assertThat(registry.get("webalgo.legacy.read.latency").timer().count()).isEqualTo(MIN_SAMPLES + 1);
+    }
+
+    private LegacyHedging hedging(double budgetPercent, int maxBurst) {
+        return new LegacyHedging(new HedgingProperties(true, budgetPercent, maxBurst, MIN_DELAY, MIN_SAMPLES), registry);
+    }
+
+    private LegacyHedging warmedUp(LegacyHedging hedging) {
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            Mono.just("aquecimento").transform(hedging.forEndpoint("/dadosProblema")).block();
+        }
+        return hedging;
+    }
+
+    // Primeira tentativa demora 10s, as seguintes respondem na hora
+    private Mono<String> slowThenFast() {
+        return Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofSeconds(10)).thenReturn("principal")
+                : Mono.just("copia"));
+    }
+
+    private double count(String name) {
+        return registry.get(name).tag("uri", "/dadosProblema").counter().count();
+    }
+}
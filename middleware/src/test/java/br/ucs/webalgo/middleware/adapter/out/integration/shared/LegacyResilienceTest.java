@@ -0,0 +1,69 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.domain.exception.UpstreamUnavailableException;
+import br.ucs.webalgo.middleware.shared.error.ApiExceptionHandler;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LegacyResilienceTest {
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .waitDurationInOpenState(Duration.ofSeconds(10))
+            .build());
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final LegacyResilience resilience = new LegacyResilience(circuitBreakers, bulkheads, new SimpleMeterRegistry());
+
+    @Test
+    void openBreakerAsksToRetryAfterTheOpenWait() {
+        circuitBreakers.circuitBreaker("dadosProblema").transitionToOpenState();
+
+        StepVerifier.create(Mono.just("ok").transform(resilience.forEndpoint("/dadosProblema")))
+                .expectErrorSatisfies(e -> {
+                    assertThat(e).isInstanceOf(UpstreamUnavailableException.class);
+                    assertThat(((UpstreamUnavailableException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
+                    assertThat(retryAfterHeader((UpstreamUnavailableException) e)).isEqualTo("10");
+                })
+                .verify();
+    }
+
+    @Test
+    void fullBulkheadAsksToRetryAlmostAtOnce() {
+        Disposable busy = Mono.never().transform(resilience.forEndpoint("/buscaProblemasChave")).subscribe();
+
+        try {
+            StepVerifier.create(Mono.just("ok").transform(resilience.forEndpoint("/buscaProblemasChave")))
+                    .expectErrorSatisfies(e -> {
+                        assertThat(e).isInstanceOf(UpstreamUnavailableException.class);
+                        assertThat(((UpstreamUnavailableException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(1));
+                        assertThat(retryAfterHeader((UpstreamUnavailableException) e)).isEqualTo("1");
+                    })
+                    .verify();
+        } finally {
+            busy.dispose();
+        }
+
+        // Com a vaga liberada a chamada seguinte passa
+        StepVerifier.create(Mono.just("ok").transform(resilience.forEndpoint("/buscaProblemasChave")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    private static String retryAfterHeader(UpstreamUnavailableException e) {
+        return new ApiExceptionHandler().handleUpstreamUnavailable(e).getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+    }
+}
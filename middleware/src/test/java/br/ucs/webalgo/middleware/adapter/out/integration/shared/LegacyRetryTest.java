@@ -0,0 +1,138 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import br.ucs.webalgo.middleware.infrastructure.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LegacyRetryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void gatewayErrorsAreRetriedWithExponentialBackoff() {
+        LegacyRetry retry = retry(2, 10, 0.1);
+
+        StepVerifier.withVirtualTime(() -> failing(2, HttpStatus.SERVICE_UNAVAILABLE).transform(retry.forEndpoint("/dadosProblema")))
+                .expectSubscription()
+                .then(() -> assertThat(attempts).hasValue(1))
+                .thenAwait(Duration.ofMillis(99))
+                .then(() -> assertThat(attempts).hasValue(1))
+                .thenAwait(Duration.ofMillis(1))
+                .then(() -> assertThat(attempts).hasValue(2))
+                // Segundo intervalo dobra: 200ms
+                .thenAwait(Duration.ofMillis(199))
+                .then(() -> assertThat(attempts).hasValue(2))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(attempts).hasValue(3);
+        assertThat(registry.get("webalgo.legacy.retries").tag("uri", "/dadosProblema").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void exhaustedRetriesSurfaceTheLastLegacyError() {
+        LegacyRetry retry = retry(2, 10, 0.1);
+
+        StepVerifier.withVirtualTime(() -> failing(5, HttpStatus.BAD_GATEWAY).transform(retry.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectError(WebClientResponseException.BadGateway.class)
+                .verify();
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void errorsThatARetryCannotFixAreNotRetried() {
+        LegacyRetry retry = retry(2, 10, 0.1);
+
+        StepVerifier.create(failing(5, HttpStatus.INTERNAL_SERVER_ERROR).transform(retry.forEndpoint("/dadosProblema")))
+                .expectError(WebClientResponseException.InternalServerError.class)
+                .verify();
+        StepVerifier.create(failing(5, HttpStatus.FORBIDDEN).transform(retry.forEndpoint("/dadosProblema")))
+                .expectError(WebClientResponseException.Forbidden.class)
+                .verify();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(LegacyRetry.retryable(new ResourceAccessException("conexao recusada"))).isTrue();
+        assertThat(LegacyRetry.retryable(new IllegalStateException("Sessão inválida"))).isFalse();
+    }
+
+    @Test
+    void retriesStopWhenTheBudgetRunsOutAndResumeAfterSuccesses() {
+        // Uma ficha de saldo; cada sucesso devolve meia
+        LegacyRetry retry = retry(1, 1, 0.5);
+
+        StepVerifier.withVirtualTime(() -> failing(1, HttpStatus.SERVICE_UNAVAILABLE).transform(retry.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(attempts).hasValue(2);
+
+        // Sem saldo a falha volta na hora, sem segunda tentativa
+        attempts.set(0);
+        StepVerifier.create(failing(1, HttpStatus.SERVICE_UNAVAILABLE).transform(retry.forEndpoint("/dadosProblema")))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+        assertThat(attempts).hasValue(1);
+        assertThat(registry.get("webalgo.legacy.retry.budget.exhausted").counter().count()).isEqualTo(1);
+
+        // O primeiro sucesso ja devolveu meia ficha; mais um completa a ficha e o retry volta
+        StepVerifier.create(Mono.just("ok").transform(retry.forEndpoint("/dadosProblema")))
+                .expectNext("ok")
+                .verifyComplete();
+        attempts.set(0);
+        StepVerifier.withVirtualTime(() -> failing(1, HttpStatus.SERVICE_UNAVAILABLE).transform(retry.forEndpoint("/dadosProblema")))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void writesAreNeverRetried() {
+        LegacyRetry retry = retry(2, 10, 0.1);
+
+        StepVerifier.create(failing(1, HttpStatus.SERVICE_UNAVAILABLE).transform(retry.forEndpoint("/alteraAlgo")))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void disabledRetryLeavesTheCallUntouched() {
+        LegacyRetry retry = new LegacyRetry(new RetryProperties(false, 2, Duration.ofMillis(100), Duration.ofSeconds(1),
+                0, 0.1, 10), registry);
+
+        StepVerifier.create(failing(1, HttpStatus.SERVICE_UNAVAILABLE).transform(retry.forEndpoint("/dadosProblema")))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    private LegacyRetry retry(int maxRetries, int budgetMaxTokens, double budgetRatio) {
+        // Sem jitter para o backoff ser deterministico
+        return new LegacyRetry(new RetryProperties(true, maxRetries, Duration.ofMillis(100), Duration.ofSeconds(1),
+                0, budgetRatio, budgetMaxTokens), registry);
+    }
+
+    // As primeiras 'failures' tentativas falham com o status informado, as seguintes respondem "ok"
+    private Mono<String> failing(int failures, HttpStatus status) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures
+                ? Mono.error(WebClientResponseException.create(status, status.getReasonPhrase(), null, null, null, null))
+                : Mono.just("ok"));
+    }
+}
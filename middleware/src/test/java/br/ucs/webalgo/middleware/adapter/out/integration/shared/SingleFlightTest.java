@@ -0,0 +1,113 @@
+package br.ucs.webalgo.middleware.adapter.out.integration.shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private static final LinkedMultiValueMap<String, String> FORM = new LinkedMultiValueMap<>();
+
+    private final SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+    @Test
+    void concurrentSubscribersShareOneCall() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+        int subscribers = 16;
+        CountDownLatch done = new CountDownLatch(subscribers);
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < subscribers; i++) {
+            singleFlight.execute("/dadosProblema", FORM, "s1|aluno", () -> {
+                calls.incrementAndGet();
+                return response.asMono();
+            }).subscribe(received::add, e -> done.countDown(), done::countDown);
+        }
+        response.tryEmitValue("ok");
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).hasValue(1);
+        assertThat(received).hasSize(subscribers).containsOnly("ok");
+    }
+
+    @Test
+    void lateSubscriberBeforeCleanupStillGetsTheValue() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+        AtomicReference<String> late = new AtomicReference<>();
+        AtomicBoolean lateCompleted = new AtomicBoolean();
+
+        // O segundo assinante entra enquanto o primeiro recebe o valor, antes do doFinally tirar a entrada do mapa
+        singleFlight.execute("/dadosProblema", FORM, "s1|aluno", () -> {
+                    calls.incrementAndGet();
+                    return response.asMono();
+                })
+                .doOnNext(v -> singleFlight.execute("/dadosProblema", FORM, "s1|aluno", () -> {
+                    calls.incrementAndGet();
+                    return Mono.just("segunda chamada");
+                }).subscribe(late::set, e -> { }, () -> lateCompleted.set(true)))
+                .subscribe();
+        response.tryEmitValue("ok");
+
+        assertThat(lateCompleted).isTrue();
+        assertThat(late).hasValue("ok");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void differentIdentitiesDoNotShare() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = singleFlight.execute("/buscaProblemasChave", FORM, SingleFlight.identity("s1", "aluno"),
+                () -> Mono.fromCallable(() -> "r" + calls.incrementAndGet()).delayElement(Duration.ofMillis(50)))
+                .zipWith(singleFlight.execute("/buscaProblemasChave", FORM, SingleFlight.identity("forjada", "mallory"),
+                        () -> Mono.fromCallable(() -> "r" + calls.incrementAndGet()).delayElement(Duration.ofMillis(50))),
+                        (a, b) -> a + "," + b)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(calls).hasValue(2);
+        assertThat(first).isIn("r1,r2", "r2,r1");
+    }
+
+    @Test
+    void completedCallIsNotReused() {
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            singleFlight.execute("/dadosProblema", FORM, "s1|aluno", () -> Mono.fromCallable(calls::incrementAndGet))
+                    .block(Duration.ofSeconds(5));
+        }
+
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void callIsCancelledOnlyWhenEverySubscriberLeaves() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> shared = singleFlight.execute("/dadosProblema", FORM, "s1|aluno",
+                () -> Mono.<String>never().doOnCancel(() -> cancelled.set(true)));
+
+        Disposable first = shared.subscribe();
+        Disposable second = shared.subscribe();
+
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        second.dispose();
+        assertThat(cancelled).isTrue();
+    }
+}
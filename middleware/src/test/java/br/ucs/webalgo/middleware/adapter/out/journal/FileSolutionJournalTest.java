@@ -0,0 +1,122 @@
+package br.ucs.webalgo.middleware.adapter.out.journal;
+
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.SaveSolutionCommand;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionJournalPort.Entry;
+import br.ucs.webalgo.middleware.infrastructure.config.WriteBehindProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSolutionJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayKeepsOnlyTheLatestUnacknowledgedVersion() throws IOException {
+        FileSolutionJournal journal = journal(DataSize.ofMegabytes(8));
+        journal.replay();
+        journal.append("dono", save("aluno", "S00000050_1", "v1"));
+        Entry latest = journal.append("dono", save("aluno", "S00000050_1", "v2"));
+        Entry other = journal.append("dono", save("aluno", "S00000051_1", "x"));
+        journal.acknowledge(other);
+        journal.closeChannel();
+
+        FileSolutionJournal restarted = journal(DataSize.ofMegabytes(8));
+        List<Entry> replayed = restarted.replay();
+
+        assertThat(replayed).containsExactly(latest);
+        assertThat(restarted.pending("dono", "S00000051_1")).isEmpty();
+        assertThat(restarted.append("dono", save("aluno", "S00000052_1", "y")).seq()).isGreaterThan(other.seq());
+    }
+
+    @Test
+    void truncatedLastLineIsSkippedAndRewritten() throws IOException {
+        FileSolutionJournal journal = journal(DataSize.ofMegabytes(8));
+        journal.replay();
+        Entry entry = journal.append("dono", save("aluno", "S00000050_1", "v1"));
+        journal.closeChannel();
+        // Crash no meio da escrita da linha seguinte
+        Files.writeString(path(), "{\"op\":\"save\",\"seq\":2,\"command\":{\"algori", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        FileSolutionJournal restarted = journal(DataSize.ofMegabytes(8));
+        List<Entry> replayed = restarted.replay();
+
+        assertThat(replayed).containsExactly(entry);
+        assertThat(Files.readAllLines(path())).hasSize(1).allMatch(line -> line.endsWith("}"));
+        restarted.append("dono", save("aluno", "S00000051_1", "v1"));
+        restarted.closeChannel();
+        assertThat(journal(DataSize.ofMegabytes(8)).replay()).hasSize(2);
+    }
+
+    @Test
+    void compactionKeepsOnlyPendingEntries() throws IOException {
+        FileSolutionJournal journal = journal(DataSize.ofBytes(1024));
+        journal.replay();
+        Entry pending = journal.append("dono", save("aluno", "S00000050_1", "fica"));
+        for (int i = 0; i < 50; i++) {
+            journal.acknowledge(journal.append("dono", save("aluno", "S00000051_1", "versao " + i)));
+        }
+        journal.closeChannel();
+
+        assertThat(Files.size(path())).isLessThan(2 * 1024);
+        assertThat(journal(DataSize.ofBytes(1024)).replay()).containsExactly(pending);
+    }
+
+    @Test
+    void deadEntryStaysVisibleUntilANewSave() throws IOException {
+        FileSolutionJournal journal = journal(DataSize.ofMegabytes(8));
+        journal.replay();
+        Entry entry = journal.append("dono", save("aluno", "S00000050_1", "v1"));
+        journal.deadLetter(entry);
+        journal.closeChannel();
+
+        FileSolutionJournal restarted = journal(DataSize.ofMegabytes(8));
+        assertThat(restarted.replay()).isEmpty();
+        assertThat(restarted.pending("dono", "S00000050_1")).hasValueSatisfying(e -> assertThat(e.dead()).isTrue());
+        assertThat(restarted.pendingCount()).isZero();
+        assertThat(restarted.deadCount()).isEqualTo(1);
+
+        Entry retry = restarted.append("dono", save("aluno", "S00000050_1", "v2"));
+        assertThat(restarted.pending("dono", "S00000050_1")).contains(retry);
+        assertThat(restarted.deadCount()).isZero();
+    }
+
+    @Test
+    void previousFormatWithPlaintextSessionIsPurged() throws IOException {
+        Files.writeString(path(), "{\"op\":\"save\",\"seq\":1,\"command\":{\"algorithm\":\"v1\","
+                + "\"problemCode\":\"S00000050_1\",\"cost\":3,\"answer\":\"r\",\"sessionId\":\"segredo\","
+                + "\"username\":\"aluno\"},\"username\":null,\"solutionCode\":null}\n", StandardCharsets.UTF_8);
+
+        FileSolutionJournal journal = journal(DataSize.ofMegabytes(8));
+
+        assertThat(journal.replay()).isEmpty();
+        assertThat(Files.readString(path())).doesNotContain("segredo");
+    }
+
+    private FileSolutionJournal journal(DataSize compactThreshold) {
+        WriteBehindProperties properties = new WriteBehindProperties(true, path().toString(), false, compactThreshold,
+                Duration.ofSeconds(2), 4, Duration.ofSeconds(5), 5);
+        return new FileSolutionJournal(properties, new ObjectMapper());
+    }
+
+    private Path path() {
+        return dir.resolve("solution-journal.log");
+    }
+
+    private static SaveSolutionCommand save(String username, String solutionCode, String algorithm) {
+        return new SaveSolutionCommand(algorithm, solutionCode, 3, "resposta", null, username);
+    }
+}
@@ -0,0 +1,98 @@
+package br.ucs.webalgo.middleware.application.port.service.auth;
+
+import br.ucs.webalgo.middleware.adapter.out.cache.session.ValidatedSessions;
+import br.ucs.webalgo.middleware.application.port.out.auth.SessionVerdict;
+import br.ucs.webalgo.middleware.application.port.out.auth.UpstreamProbe;
+import br.ucs.webalgo.middleware.infrastructure.config.SessionIndexProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionGuardTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ValidatedSessions sessions = new ValidatedSessions(new SessionIndexProperties(SessionGuard.Mode.SHADOW,
+            1000, Duration.ofHours(1), Duration.ofHours(1), "[A-Za-z0-9]+", Duration.ofMinutes(5)), registry);
+
+    @Test
+    void acceptedVerdictIsCheckedAgainstTheLegacyAnswer() {
+        // Lista vazia com 200 e a recusa do legado: o indice deixou passar uma sessao invalida
+        SessionGuard guard = guard(SessionVerdict.VALID);
+
+        StepVerifier.create(guard.guard("s1", "aluno", () -> catalog(List.of())))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        assertThat(shadow("valid", "invalid")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedVerdictIsCheckedAgainstTheLegacyAnswer() {
+        SessionGuard guard = guard(SessionVerdict.LOGGED_OUT);
+
+        StepVerifier.create(guard.guard("s1", "aluno", () -> catalog(List.of("P1"))))
+                .expectNext(List.of("P1"))
+                .verifyComplete();
+        StepVerifier.create(guard.guard("s2", "aluno", () -> legacy(Mono.<List<String>>error(
+                        WebClientResponseException.create(HttpStatus.FORBIDDEN, "Forbidden", null, null, null, null)))))
+                .expectError(WebClientResponseException.Forbidden.class)
+                .verify();
+
+        assertThat(shadow("logged_out", "valid")).isEqualTo(1);
+        assertThat(shadow("logged_out", "invalid")).isEqualTo(1);
+    }
+
+    @Test
+    void answersThatSayNothingAboutTheSessionAreKeptApart() {
+        SessionGuard guard = guard(SessionVerdict.UNKNOWN);
+
+        StepVerifier.create(guard.guard("s1", "aluno", () -> legacy(Mono.<List<String>>error(new TimeoutException()))))
+                .expectError(TimeoutException.class)
+                .verify();
+        StepVerifier.create(guard.guard("s1", "aluno", () -> Mono.just(List.of("P1"))))
+                .expectNext(List.of("P1"))
+                .verifyComplete();
+
+        assertThat(shadow("unknown", "unanswered")).isEqualTo(1);
+        assertThat(shadow("unknown", "local")).isEqualTo(1);
+    }
+
+    @Test
+    void enforceStillShortCircuitsProvenInvalidSessions() {
+        SessionGuard guard = new SessionGuard((sessionId, username) -> SessionVerdict.MALFORMED,
+                SessionGuard.Mode.ENFORCE, registry);
+
+        StepVerifier.create(guard.guard("s1", "aluno", () -> catalog(List.of("P1"))))
+                .expectErrorMessage("Sessão inválida")
+                .verify();
+
+        assertThat(registry.find("webalgo.session.index.shadow").counters()).isEmpty();
+    }
+
+    private SessionGuard guard(SessionVerdict verdict) {
+        return new SessionGuard((sessionId, username) -> verdict, SessionGuard.Mode.SHADOW, registry);
+    }
+
+    // Mesmo caminho do CachingProblemPort: chamada marcada como enviada ao legado e classificada pela validacao
+    private Mono<List<String>> catalog(List<String> codes) {
+        return legacy(Mono.just(codes));
+    }
+
+    private Mono<List<String>> legacy(Mono<List<String>> response) {
+        return sessions.track("s1", UpstreamProbe.marking(response), codes -> !codes.isEmpty());
+    }
+
+    private double shadow(String verdict, String actual) {
+        var counter = registry.find("webalgo.session.index.shadow").tags("verdict", verdict, "actual", actual).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
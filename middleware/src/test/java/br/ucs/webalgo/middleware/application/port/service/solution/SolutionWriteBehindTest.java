@@ -0,0 +1,273 @@
+package br.ucs.webalgo.middleware.application.port.service.solution;
+
+import br.ucs.webalgo.middleware.application.port.in.solution.dto.*;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionJournalPort;
+import br.ucs.webalgo.middleware.application.port.out.solution.SolutionPort;
+import br.ucs.webalgo.middleware.domain.exception.InvalidSessionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SolutionWriteBehindTest {
+
+    private static final FetchSolutionResult LEGACY = new FetchSolutionResult(1, "do legado", List.of());
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LegacySaves legacy = new LegacySaves();
+    private final Journal journal = new Journal();
+    private SolutionWriteBehind writeBehind;
+
+    @AfterEach
+    void stop() {
+        if (writeBehind != null) {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    void pendingVersionIsOnlyVisibleToTheSessionThatSavedIt() {
+        start(Duration.ofHours(1));
+
+        StepVerifier.create(writeBehind.enqueue(save("sessao-a", "aluno", "v1")))
+                .expectNext(new SaveSolutionResult(SolutionWriteBehind.QUEUED))
+                .verifyComplete();
+
+        assertThat(writeBehind.overlay(fetch("sessao-a", "aluno"), LEGACY).solution()).isEqualTo("v1");
+        // Mesmo cookie "name", outra sessao: nao enxerga a versao de quem gravou
+        assertThat(writeBehind.overlay(fetch("sessao-b", "aluno"), LEGACY)).isEqualTo(LEGACY);
+        // Mesma sessao com outro nome no cookie tambem nao
+        assertThat(writeBehind.overlay(fetch("sessao-a", "outro"), LEGACY)).isEqualTo(LEGACY);
+    }
+
+    @Test
+    void sessionIdStaysInMemoryAndReachesTheLegacyOnFlush() {
+        start(Duration.ZERO);
+
+        writeBehind.enqueue(save("sessao-secreta", "aluno", "v1")).block();
+        awaitSaves(1);
+
+        assertThat(journal.appended).singleElement().satisfies(entry -> {
+            assertThat(entry.owner()).isNotEqualTo("sessao-secreta");
+            assertThat(entry.command().sessionId()).isNull();
+        });
+        assertThat(legacy.saves).singleElement().satisfies(command -> {
+            assertThat(command.sessionId()).isEqualTo("sessao-secreta");
+            assertThat(command.algorithm()).isEqualTo("v1");
+        });
+    }
+
+    @Test
+    void pendingVersionsFromBeforeARestartAreNotSentLater() {
+        start(Duration.ofHours(1));
+        writeBehind.enqueue(save("sessao-a", "aluno", "v1")).block();
+        writeBehind.stop();
+
+        // Nova instancia: o diario sobrevive, o sessionid em memoria nao
+        start(Duration.ZERO);
+
+        assertThat(writeBehind.overlay(fetch("sessao-a", "aluno"), LEGACY))
+                .satisfies(result -> {
+                    assertThat(result.solution()).isEqualTo("v1");
+                    assertThat(result.syncStatus()).isEqualTo(SolutionWriteBehind.FAILED);
+                });
+        assertThat(journal.pendingCount()).isZero();
+        assertThat(legacy.saves).isEmpty();
+    }
+
+    @Test
+    void savesInsideTheFlushDelayAreCoalescedIntoTheLastVersion() {
+        start(Duration.ofMillis(100));
+
+        writeBehind.enqueue(save("sessao-a", "aluno", "v1")).block();
+        writeBehind.enqueue(save("sessao-a", "aluno", "v2")).block();
+        writeBehind.enqueue(save("sessao-a", "aluno", "v3")).block();
+        awaitSaves(1);
+        await(() -> journal.pendingCount() == 0);
+
+        assertThat(legacy.saves).singleElement().satisfies(command -> assertThat(command.algorithm()).isEqualTo("v3"));
+        assertThat(registry.get("webalgo.writebehind.saves").tag("outcome", "coalesced").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void versionSavedWhileSendingGoesOutInItsOwnFlush() {
+        Sinks.Empty<Void> legacyBusy = Sinks.empty();
+        legacy.gate = legacyBusy.asMono();
+        start(Duration.ZERO);
+
+        writeBehind.enqueue(save("sessao-a", "aluno", "v1")).block();
+        awaitSaves(1);
+        writeBehind.enqueue(save("sessao-a", "aluno", "v2")).block();
+        legacy.gate = Mono.empty();
+        legacyBusy.tryEmitEmpty();
+
+        awaitSaves(2);
+        await(() -> journal.pendingCount() == 0);
+        assertThat(legacy.saves).extracting(SaveSolutionCommand::algorithm).containsExactly("v1", "v2");
+    }
+
+    @Test
+    void failedSendIsRetriedUntilTheLegacyAccepts() {
+        legacy.failures.set(2);
+        start(Duration.ZERO);
+
+        writeBehind.enqueue(save("sessao-a", "aluno", "v1")).block();
+        awaitSaves(3);
+        await(() -> journal.pendingCount() == 0);
+
+        assertThat(legacy.saves).hasSize(3);
+        assertThat(journal.deadCount()).isZero();
+        assertThat(registry.get("webalgo.writebehind.flushes").tag("outcome", "retry").counter().count()).isEqualTo(2);
+        assertThat(registry.get("webalgo.writebehind.flushes").tag("outcome", "success").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendIsDeadLetteredAfterTheLastAttemptAndShownAsFailed() {
+        legacy.failures.set(10);
+        start(Duration.ZERO);
+
+        writeBehind.enqueue(save("sessao-a", "aluno", "v1")).block();
+        await(() -> journal.deadCount() == 1);
+
+        assertThat(legacy.saves).hasSize(3);
+        assertThat(journal.pendingCount()).isZero();
+        assertThat(writeBehind.overlay(fetch("sessao-a", "aluno"), LEGACY)).satisfies(result -> {
+            assertThat(result.solution()).isEqualTo("v1");
+            assertThat(result.syncStatus()).isEqualTo(SolutionWriteBehind.FAILED);
+        });
+
+        // Gravar de novo tira a solucao do estado de falha
+        legacy.failures.set(0);
+        writeBehind.enqueue(save("sessao-a", "aluno", "v2")).block();
+        awaitSaves(4);
+        await(() -> journal.pendingCount() == 0);
+        assertThat(writeBehind.overlay(fetch("sessao-a", "aluno"), LEGACY)).isEqualTo(LEGACY);
+    }
+
+    @Test
+    void rejectedSessionIsDeadLetteredWithoutRetrying() {
+        legacy.failures.set(10);
+        legacy.failure = new InvalidSessionException("Sessão inválida");
+        start(Duration.ZERO);
+
+        writeBehind.enqueue(save("sessao-a", "aluno", "v1")).block();
+        await(() -> journal.deadCount() == 1);
+
+        assertThat(legacy.saves).hasSize(1);
+    }
+
+    private void start(Duration flushDelay) {
+        writeBehind = new SolutionWriteBehind(legacy, journal, event -> { },
+                new SolutionWriteBehind.Settings(true, flushDelay, 4, Duration.ofMillis(10), 3),
+                registry);
+        writeBehind.run(null);
+    }
+
+    private void awaitSaves(int expected) {
+        await(() -> legacy.saves.size() >= expected);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static SaveSolutionCommand save(String sessionId, String username, String algorithm) {
+        return new SaveSolutionCommand(algorithm, "S00000050_1", 3, "resposta", sessionId, username);
+    }
+
+    private static FetchSolutionCommand fetch(String sessionId, String username) {
+        return new FetchSolutionCommand("S00000050_1", sessionId, username);
+    }
+
+    private static final class LegacySaves implements SolutionPort {
+
+        // Toda tentativa de envio, inclusive as que falham
+        final List<SaveSolutionCommand> saves = new CopyOnWriteArrayList<>();
+        final AtomicInteger failures = new AtomicInteger();
+        volatile RuntimeException failure = new IllegalStateException("legado fora");
+        volatile Mono<Void> gate = Mono.empty();
+
+        @Override
+        public Mono<FetchSolutionResult> fetchSolutionData(FetchSolutionCommand command) {
+            return Mono.just(LEGACY);
+        }
+
+        @Override
+        public Mono<CreateSolutionResult> createSolution(CreateSolutionCommand command) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<SaveSolutionResult> saveSolution(SaveSolutionCommand command) {
+            return Mono.defer(() -> {
+                saves.add(command);
+                if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                    return Mono.error(failure);
+                }
+                return gate.thenReturn(new SaveSolutionResult("Solução alterada com sucesso"));
+            });
+        }
+    }
+
+    private static final class Journal implements SolutionJournalPort {
+
+        final List<Entry> appended = new CopyOnWriteArrayList<>();
+        private final Map<String, Entry> live = new LinkedHashMap<>();
+        private long seq;
+
+        @Override
+        public synchronized List<Entry> replay() {
+            return live.values().stream().filter(entry -> !entry.dead()).toList();
+        }
+
+        @Override
+        public synchronized Entry append(String owner, SaveSolutionCommand command) {
+            Entry entry = new Entry(++seq, owner, command);
+            appended.add(entry);
+            live.put(owner + command.problemCode(), entry);
+            return entry;
+        }
+
+        @Override
+        public synchronized void acknowledge(Entry entry) {
+            live.remove(entry.owner() + entry.command().problemCode(), entry);
+        }
+
+        @Override
+        public synchronized void deadLetter(Entry entry) {
+            live.replace(entry.owner() + entry.command().problemCode(), entry,
+                    new Entry(entry.seq(), entry.owner(), entry.command(), true));
+        }
+
+        @Override
+        public synchronized Optional<Entry> pending(String owner, String solutionCode) {
+            return Optional.ofNullable(live.get(owner + solutionCode));
+        }
+
+        @Override
+        public synchronized int pendingCount() {
+            return (int) live.values().stream().filter(entry -> !entry.dead()).count();
+        }
+
+        @Override
+        public synchronized int deadCount() {
+            return (int) live.values().stream().filter(Entry::dead).count();
+        }
+    }
+}
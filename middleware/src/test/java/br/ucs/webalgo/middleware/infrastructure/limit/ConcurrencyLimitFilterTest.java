@@ -0,0 +1,51 @@
+package br.ucs.webalgo.middleware.infrastructure.limit;
+
+import br.ucs.webalgo.middleware.infrastructure.config.InboundLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final InboundLimiter limiter = new InboundLimiter(new InboundLimitProperties(true, 10, 10, 10, true, 0.6,
+            Duration.ofSeconds(3)), new SimpleMeterRegistry());
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter);
+
+    @Test
+    void requestOverTheLimitIsShedWithRetryAfter() throws Exception {
+        // Navegacao ocupa o limite inteiro (10)
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.acquire(InboundLimiter.BROWSE)).isPresent();
+        }
+
+        MockHttpServletResponse response = dispatch("GET", "/api/v1/web-algo/problems/key/abc");
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getContentAsString()).isEqualTo(ConcurrencyLimitFilter.REJECTED_BODY);
+
+        // Gravacao de solucao ainda cabe na fatia critica
+        assertThat(dispatch("POST", "/api/v1/web-algo/solutions/save").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void finishedRequestsGiveTheirSlotBack() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            assertThat(dispatch("GET", "/api/v1/web-algo/problems/key/abc").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse dispatch(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
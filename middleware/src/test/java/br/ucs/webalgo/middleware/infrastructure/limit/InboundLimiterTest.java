@@ -0,0 +1,89 @@
+package br.ucs.webalgo.middleware.infrastructure.limit;
+
+import br.ucs.webalgo.middleware.infrastructure.config.InboundLimitProperties;
+import com.netflix.concurrency.limits.Limiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InboundLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void writesAndAuthAreCriticalAndBrowsingIsNot() {
+        InboundLimiter limiter = limiter(true, Duration.ofSeconds(1));
+
+        assertThat(limiter.partitionOf("POST", "/api/v1/web-algo/auth/login")).isEqualTo(InboundLimiter.CRITICAL);
+        assertThat(limiter.partitionOf("POST", "/api/v1/web-algo/solutions/save")).isEqualTo(InboundLimiter.CRITICAL);
+        assertThat(limiter.partitionOf("POST", "/api/v1/web-algo/solutions")).isEqualTo(InboundLimiter.CRITICAL);
+        assertThat(limiter.partitionOf("GET", "/api/v1/web-algo/solutions/S00000050_1/details")).isEqualTo(InboundLimiter.BROWSE);
+        assertThat(limiter.partitionOf("GET", "/api/v1/web-algo/problems/key/abc")).isEqualTo(InboundLimiter.BROWSE);
+        assertThat(limiter.partitionOf("POST", "/api/v1/web-algo/problems/details:batch")).isEqualTo(InboundLimiter.BROWSE);
+    }
+
+    @Test
+    void browsingThatFillsTheLimitDoesNotLockOutCriticalRequests() {
+        InboundLimiter limiter = limiter(true, Duration.ofSeconds(1));
+
+        // Navegacao pode ocupar todo o limite enquanto ha folga...
+        List<Limiter.Listener> browsing = acquireAll(limiter, InboundLimiter.BROWSE);
+        assertThat(browsing).hasSize(10);
+
+        // ...mas a fatia critica continua garantida
+        assertThat(limiter.acquire(InboundLimiter.CRITICAL)).isPresent();
+        assertThat(rejected(InboundLimiter.BROWSE)).isEqualTo(1);
+        assertThat(rejected(InboundLimiter.CRITICAL)).isZero();
+
+        browsing.forEach(Limiter.Listener::onIgnore);
+        assertThat(limiter.acquire(InboundLimiter.BROWSE)).isPresent();
+    }
+
+    @Test
+    void withoutPriorityEveryRequestSharesOnePartition() {
+        InboundLimiter limiter = limiter(false, Duration.ofSeconds(1));
+
+        assertThat(acquireAll(limiter, InboundLimiter.BROWSE)).hasSize(10);
+        assertThat(limiter.acquire(InboundLimiter.CRITICAL)).isEmpty();
+    }
+
+    @Test
+    void retryAfterIsAtLeastOneSecond() {
+        assertThat(limiter(true, Duration.ofSeconds(5)).retryAfterSeconds()).isEqualTo(5);
+        assertThat(limiter(true, Duration.ofMillis(200)).retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyApiPathsAreLimited() {
+        InboundLimiter limiter = limiter(true, Duration.ofSeconds(1));
+
+        assertThat(limiter.applies("/api/v1/web-algo/problems/key/abc")).isTrue();
+        assertThat(limiter.applies("/actuator/health")).isFalse();
+        assertThat(limiter.applies(null)).isFalse();
+    }
+
+    // Limite fixo em 10 (initial = min = max) para o Gradient2 nao mexer nele durante o teste
+    private InboundLimiter limiter(boolean prioritize, Duration retryAfter) {
+        return new InboundLimiter(new InboundLimitProperties(true, 10, 10, 10, prioritize, 0.6, retryAfter), registry);
+    }
+
+    private static List<Limiter.Listener> acquireAll(InboundLimiter limiter, String partition) {
+        List<Limiter.Listener> acquired = new ArrayList<>();
+        Optional<Limiter.Listener> listener;
+        while ((listener = limiter.acquire(partition)).isPresent() && acquired.size() < 100) {
+            acquired.add(listener.get());
+        }
+        return acquired;
+    }
+
+    private double rejected(String partition) {
+        var counter = registry.find("webalgo.inbound.rejected").tag("partition", partition).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
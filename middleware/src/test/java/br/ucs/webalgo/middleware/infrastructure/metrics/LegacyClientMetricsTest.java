@@ -0,0 +1,116 @@
+package br.ucs.webalgo.middleware.infrastructure.metrics;
+
+import br.ucs.webalgo.middleware.adapter.out.integration.shared.LegacyPayloads;
+import br.ucs.webalgo.middleware.adapter.out.integration.solution.dto.LegacySaveSolutionResponse;
+import br.ucs.webalgo.middleware.infrastructure.config.LegacyPayloadProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class LegacyClientMetricsTest {
+
+    private static final String BODY = "{\"resposta\":\"Solução alterada com sucesso\"}";
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LegacyClientMetrics metrics = new LegacyClientMetrics(registry, "http://legado");
+    private final LegacyPayloads payloads = new LegacyPayloads(new ObjectMapper(),
+            new LegacyPayloadProperties(DataSize.ofMegabytes(1), Map.of()), metrics);
+
+    @Test
+    void webClientDecodeReachesItsOwnCallAcrossThreads() throws IOException {
+        // Resposta entregue em outra thread e chamadas concorrentes: cada evento leva o parse da propria chamada
+        ExchangeFunction next = request -> Mono.fromCallable(() -> ClientResponse.create(HttpStatus.OK)
+                        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .body(BODY)
+                        .build())
+                .subscribeOn(Schedulers.boundedElastic());
+
+        List<RecordedEvent> events = record(8, () -> Flux.range(0, 8)
+                .flatMap(i -> metrics.filter(ClientRequest.create(HttpMethod.POST, URI.create("http://legado/alteraAlgo" + i)).build(), next)
+                        .flatMapMany(response -> response.bodyToFlux(DataBuffer.class))
+                        .as(payloads.decoder("/alteraAlgo" + i, payloads.saveSolution()))
+                        .publishOn(Schedulers.parallel()))
+                .collectList()
+                .block(Duration.ofSeconds(5)));
+
+        assertThat(events).hasSize(8)
+                .allSatisfy(e -> assertThat(e.getDuration("decode")).isPositive());
+    }
+
+    @Test
+    void restClientDecodeReachesTheCallThroughRequestAttributes() throws IOException {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://legado").requestInterceptor(metrics);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(requestTo("http://legado/alteraAlgo")).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+        RestClient client = builder.build();
+
+        List<RecordedEvent> events = record(1, () -> {
+            LegacySaveSolutionResponse response = client.post()
+                    .uri("/alteraAlgo")
+                    .exchange((req, res) -> payloads.read("/alteraAlgo", req, res, payloads.saveSolution()));
+            assertThat(response).isNotNull();
+        });
+
+        assertThat(events).singleElement()
+                .satisfies(e -> assertThat(e.getDuration("decode")).isPositive());
+    }
+
+    // O doFinally do corpo (que fecha a medicao) roda depois que o valor ja chegou a quem assinou
+    private void awaitFinishedCalls(int expectedCalls) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (finishedCalls() < expectedCalls && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private long finishedCalls() {
+        return registry.find("webalgo.legacy.client.requests").timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private List<RecordedEvent> record(int expectedCalls, Runnable calls) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable("webalgo.LegacyCall").withThreshold(Duration.ZERO);
+            recording.start();
+            calls.run();
+            awaitFinishedCalls(expectedCalls);
+            recording.stop();
+            Path file = dir.resolve("legacy.jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("webalgo.LegacyCall"))
+                    .toList();
+        }
+    }
+}